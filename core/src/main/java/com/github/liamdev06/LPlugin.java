@@ -3,13 +3,19 @@ package com.github.liamdev06;
 import com.github.liamdev06.command.CommandManager;
 import com.github.liamdev06.component.Component;
 import com.github.liamdev06.component.ComponentManager;
+import com.github.liamdev06.component.ComponentRef;
 import com.github.liamdev06.configuration.ConfigIdWrapper;
 import com.github.liamdev06.configuration.ConfigurationManager;
 import com.github.liamdev06.configuration.ConfigurationProvider;
+import com.github.liamdev06.profiler.LifecycleProfiler;
 import com.github.liamdev06.registry.RegistryFactory;
 import com.github.liamdev06.scheduler.BukkitSchedulerAdapter;
+import com.github.liamdev06.scheduler.FoliaSchedulerAdapter;
+import com.github.liamdev06.scheduler.SchedulerSettings;
 import com.github.liamdev06.scheduler.handler.SchedulerHandlerManager;
 import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.timer.SimpleTimer;
+import com.github.liamdev06.scheduler.timer.TimerService;
 import com.github.liamdev06.utils.bukkit.ListenerRegistryFactory;
 import com.github.liamdev06.utils.java.LoggerUtil;
 import dev.jorel.commandapi.CommandAPI;
@@ -17,10 +23,11 @@ import dev.jorel.commandapi.CommandAPIBukkitConfig;
 import org.bukkit.Server;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 
@@ -34,37 +41,41 @@ import java.util.Optional;
 public abstract class LPlugin extends JavaPlugin {
 
     public static Logger LOG;
+    private static volatile LPlugin instance;
 
     private final @NonNull Class<? extends LPlugin> parentPluginClass;
     private final @NonNull String parentPluginIdentifier;
-    private final @NonNull Reflections reflections;
     private final @NonNull RegistryFactory registryFactory;
     private final @NonNull ConfigurationManager configurationManager;
 
     private ComponentManager componentManager;
     private CommandManager commandManager;
     private SchedulerAdapter schedulerAdapter;
+    private TimerService timerService;
     private SchedulerHandlerManager schedulerHandlerManager;
+    private ListenerRegistryFactory listenerRegistryFactory;
+    private @Nullable LifecycleProfiler profiler;
 
     private boolean shouldLogStartupInformationStart = true;
     private boolean shouldLogStartupInformationDone = true;
+    private boolean shouldWriteProfilerReport = true;
+    private boolean shouldCollectListenerMetrics = false;
 
     public LPlugin() {
         this.parentPluginClass = this.getClass();
         this.parentPluginIdentifier = this.getPluginMeta().getName();
         LOG = LoggerUtil.createLogger(this.parentPluginIdentifier);
-
-        this.reflections = new Reflections(ConfigurationBuilder.build().forPackages(
-                "com.github.liamdev06",
-                this.parentPluginClass.getPackageName()
-        ));
-        this.registryFactory = new RegistryFactory(this.reflections, this);
-
-        try {
-            this.configurationManager = new ConfigurationManager(this);
-        } catch (IOException exception) {
-            throw new RuntimeException("Could not set up ConfigurationManager!", exception);
-        }
+        instance = this;
+        this.profiler = new LifecycleProfiler(this, "startup");
+
+        this.registryFactory = this.profiler.measure("registry-factory", null, () -> new RegistryFactory(this));
+        this.configurationManager = this.profiler.measure("configurations", null, () -> {
+            try {
+                return new ConfigurationManager(this);
+            } catch (IOException exception) {
+                throw new RuntimeException("Could not set up ConfigurationManager!", exception);
+            }
+        });
     }
 
     /**
@@ -97,18 +108,30 @@ public abstract class LPlugin extends JavaPlugin {
             this.logStartupInformationStart(this.getServer());
         }
 
-        this.componentManager = new ComponentManager(this, this.registryFactory);
-        this.commandManager = new CommandManager(this.registryFactory);
-        this.schedulerAdapter = new BukkitSchedulerAdapter(this);
-        this.schedulerHandlerManager = new SchedulerHandlerManager(this.registryFactory);
+        final LifecycleProfiler profiler = this.profiler != null ? this.profiler : new LifecycleProfiler(this, "startup");
+        this.profiler = profiler;
+
+        profiler.measure("managers", () -> {
+            this.componentManager = new ComponentManager(this, this.registryFactory);
+            this.commandManager = new CommandManager(this.registryFactory);
+            this.schedulerAdapter = this.createSchedulerAdapter();
+            this.timerService = new TimerService(this.schedulerAdapter, LoggerUtil.createLoggerWithIdentifier(this, "TimerService"), SimpleTimer.DEFAULT_INTERVAL_TIME, SimpleTimer.DEFAULT_TIME_UNIT);
+            this.schedulerHandlerManager = new SchedulerHandlerManager(this.registryFactory);
+        });
+
+        profiler.measure("auto-registering", this.registryFactory::executeAllAutoRegistering);
+        profiler.measure("enable-components", this.componentManager::enableAllComponents);
 
-        this.registryFactory.executeAllAutoRegistering();
-        this.componentManager.enableAllComponents();
+        profiler.measure("commandapi-enable", CommandAPI::onEnable);
+        profiler.measure("listeners", () -> {
+            this.listenerRegistryFactory = new ListenerRegistryFactory(this);
+            this.listenerRegistryFactory.setMetricsEnabled(this.shouldCollectListenerMetrics);
+            this.listenerRegistryFactory.registerAllListeners();
+        });
+        profiler.measure("on-startup", this::onStartup);
+        profiler.measure("auto-schedulers", this.schedulerHandlerManager::startAllAutoSchedulers);
 
-        CommandAPI.onEnable();
-        new ListenerRegistryFactory(this).registerAllListeners();
-        this.onStartup();
-        this.schedulerHandlerManager.startAllAutoSchedulers();
+        this.completeProfiling(profiler);
 
         long finishedTime = System.currentTimeMillis() - timeAtStart;
         if (this.shouldLogStartupInformationDone) {
@@ -122,21 +145,62 @@ public abstract class LPlugin extends JavaPlugin {
     @Override
     public void onDisable() {
         final long timeAtStart = System.currentTimeMillis();
+        final LifecycleProfiler profiler = new LifecycleProfiler(this, "shutdown");
+        this.profiler = profiler;
 
-        this.onShutdown();
-        CommandAPI.onDisable();
+        profiler.measure("on-shutdown", this::onShutdown);
+        profiler.measure("commandapi-disable", CommandAPI::onDisable);
 
         if (this.componentManager != null) {
-            this.componentManager.disableAllComponents();
+            profiler.measure("disable-components", this.componentManager::disableAllComponents);
+        }
+        if (this.timerService != null) {
+            profiler.measure("timer-shutdown", this.timerService::shutdown);
         }
         if (this.schedulerAdapter != null) {
-            this.schedulerAdapter.shutdown();
+            profiler.measure("scheduler-shutdown", this.schedulerAdapter::shutdown);
         }
 
+        this.completeProfiling(profiler);
+
         long finishedTime = System.currentTimeMillis() - timeAtStart;
         LOG.info("Plugin shutdown in " + finishedTime + "ms.");
     }
 
+    /**
+     * Creates the scheduler adapter of the plugin when it is enabled.
+     * <p>
+     * By default, this creates a {@link FoliaSchedulerAdapter} when the server runs Folia and a {@link BukkitSchedulerAdapter}
+     * otherwise, both with the {@link SchedulerSettings} of the plugin config. Override this to use a custom adapter or settings.
+     *
+     * @return The scheduler adapter to use.
+     */
+    protected @NonNull SchedulerAdapter createSchedulerAdapter() {
+        final SchedulerSettings settings = SchedulerSettings.load(this);
+        if (FoliaSchedulerAdapter.isFolia()) {
+            return new FoliaSchedulerAdapter(this, settings);
+        }
+        return new BukkitSchedulerAdapter(this, settings);
+    }
+
+    /**
+     * Stops profiling the current lifecycle and writes its report to the {@code profiler} folder in the data folder.
+     *
+     * @param profiler The profiler of the lifecycle that completed.
+     */
+    private void completeProfiling(@NonNull LifecycleProfiler profiler) {
+        this.profiler = null;
+        if (!this.shouldWriteProfilerReport) {
+            return;
+        }
+
+        try {
+            profiler.writeReport(new File(this.getDataFolder(), "profiler" + File.separator + profiler.getLifecycle() + ".json"));
+        } catch (IOException exception) {
+            LOG.warn("Could not write the " + profiler.getLifecycle() + " profiler report.", exception);
+        }
+    }
+
     private void logStartupInformationStart(@NonNull Server server) {
         final String version = server.getVersion()
                 .replace("(", "")
@@ -165,6 +229,10 @@ public abstract class LPlugin extends JavaPlugin {
      * @return Instance of the plugin entry point.
      */
     public static @NonNull LPlugin getInstance() {
+        final LPlugin plugin = instance;
+        if (plugin != null) {
+            return plugin;
+        }
         return getPlugin(LPlugin.class);
     }
 
@@ -184,6 +252,35 @@ public abstract class LPlugin extends JavaPlugin {
         this.shouldLogStartupInformationDone = value;
     }
 
+    /**
+     * If the plugin should write a JSON report of the startup and shutdown phase timings to its data folder.
+     * @param value {@code true} if the report should be written, {@code false} otherwise.
+     */
+    public void shouldWriteProfilerReport(boolean value) {
+        this.shouldWriteProfilerReport = value;
+    }
+
+    /**
+     * If the auto registered listeners should collect dispatch metrics of every event handler.
+     * Must be set before the plugin is enabled.
+     * @param value {@code true} if listener metrics should be collected, {@code false} otherwise.
+     * @see ListenerRegistryFactory#getHandlerMetrics()
+     */
+    public void shouldCollectListenerMetrics(boolean value) {
+        this.shouldCollectListenerMetrics = value;
+    }
+
+    /**
+     * Gets the profiler of the lifecycle currently in progress.
+     * <p>
+     * A profiler is only present while the plugin starts up or shuts down.
+     *
+     * @return The active {@link LifecycleProfiler}, or {@code null} if no lifecycle is in progress.
+     */
+    public @Nullable LifecycleProfiler getProfiler() {
+        return this.profiler;
+    }
+
     /**
      * @return The identifier for this plugin.
      */
@@ -192,10 +289,15 @@ public abstract class LPlugin extends JavaPlugin {
     }
 
     /**
+     * Gets the Reflections instance for this plugin.
+     * <p>
+     * The classpath is scanned the first time this is called, prefer the {@link RegistryFactory}
+     * lookups which are served from the compile-time registry index when present.
+     *
      * @return Reflections instance for this plugin.
      */
     public @NonNull Reflections getReflections() {
-        return this.reflections;
+        return this.registryFactory.getReflections();
     }
 
     /**
@@ -249,6 +351,13 @@ public abstract class LPlugin extends JavaPlugin {
         return this.schedulerAdapter;
     }
 
+    /**
+     * @return Timer service advancing all running {@link SimpleTimer}s.
+     */
+    public @NonNull TimerService getTimerService() {
+        return this.timerService;
+    }
+
     /**
      * @return Scheduler handler manager used to abstract task logic to separate classes.
      */
@@ -256,6 +365,13 @@ public abstract class LPlugin extends JavaPlugin {
         return this.schedulerHandlerManager;
     }
 
+    /**
+     * @return Listener registry factory that registered the auto registered listeners and holds their event filters.
+     */
+    public @NonNull ListenerRegistryFactory getListenerRegistryFactory() {
+        return this.listenerRegistryFactory;
+    }
+
     /**
      * Gets the instance of a registered component from the component manager.
      *
@@ -265,11 +381,7 @@ public abstract class LPlugin extends JavaPlugin {
      * @throws NullPointerException If the component is not registered within the component manager.
      */
     public <T extends Component> @NonNull T getRegisteredComponent(@NonNull Class<T> componentClass) {
-        T module = this.getComponentManager().getComponent(componentClass);
-        if (module == null) {
-            throw new NullPointerException("The component with class " + componentClass.getSimpleName() + " is null");
-        }
-        return module;
+        return this.getComponentManager().getRef(componentClass).require();
     }
 
     /**
@@ -281,4 +393,17 @@ public abstract class LPlugin extends JavaPlugin {
     public static <T extends Component> @NonNull T getComponent(@NonNull Class<T> componentClass) {
         return LPlugin.getInstance().getRegisteredComponent(componentClass);
     }
+
+    /**
+     * Static method to get the cached reference to a component.
+     * <p>
+     * Keep the returned reference in a field to look up the component with a single volatile read,
+     * for example in listeners that need the component on every event.
+     *
+     * @param componentClass Class of the component.
+     * @return The {@link ComponentRef} of the component.
+     */
+    public static <T extends Component> @NonNull ComponentRef<T> getComponentRef(@NonNull Class<T> componentClass) {
+        return LPlugin.getInstance().getComponentManager().getRef(componentClass);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.github.liamdev06.command;
+
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.utils.bukkit.event.EventFilter;
+import com.github.liamdev06.utils.bukkit.event.HandlerMetrics;
+import com.github.liamdev06.utils.java.TimeFormatter;
+import dev.jorel.commandapi.CommandAPICommand;
+import dev.jorel.commandapi.arguments.IntegerArgument;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Command dumping the per handler {@link HandlerMetrics} and {@link EventFilter} drop counts of the registered listeners,
+ * sorted by cumulative time spent.
+ * <p>
+ * This command is not auto registered. Register it through the {@link CommandManager} when listener metrics are
+ * enabled with {@link LPlugin#shouldCollectListenerMetrics(boolean)}.
+ */
+public class ListenerMetricsCommand implements CommandFactory {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final @NonNull LPlugin plugin;
+    private final @NonNull String name;
+    private final @NonNull String permission;
+
+    /**
+     * @param plugin The plugin whose listener metrics to dump.
+     * @param name The name of the command.
+     * @param permission The permission required to use the command.
+     */
+    public ListenerMetricsCommand(@NonNull LPlugin plugin, @NonNull String name, @NonNull String permission) {
+        this.plugin = plugin;
+        this.name = name;
+        this.permission = permission;
+    }
+
+    @Override
+    public @NonNull CommandAPICommand buildSingleCommand() {
+        return new CommandAPICommand(this.name)
+                .withPermission(this.permission)
+                .withOptionalArguments(new IntegerArgument("limit", 1))
+                .executes((sender, arguments) -> {
+                    final int limit = (int) arguments.getOrDefault("limit", DEFAULT_LIMIT);
+                    final List<HandlerMetrics> metrics = this.plugin.getListenerRegistryFactory().getHandlerMetrics()
+                            .stream()
+                            .sorted(Comparator.comparingLong(HandlerMetrics::getTotalNanos).reversed())
+                            .limit(limit)
+                            .toList();
+
+                    if (metrics.isEmpty()) {
+                        sender.sendMessage("No listener metrics are collected.");
+                    } else {
+                        sender.sendMessage("Listener handlers by total time (calls, total, p50, p99, max):");
+                        for (HandlerMetrics handler : metrics) {
+                            sender.sendMessage(" - " + handler.getName() + " (" + handler.getEventClass().getSimpleName() + "): "
+                                    + handler.getInvocations() + ", "
+                                    + TimeFormatter.formatNanosToMillis(handler.getTotalNanos()) + ", "
+                                    + TimeFormatter.formatNanosToMillis(handler.getPercentileNanos(50)) + ", "
+                                    + TimeFormatter.formatNanosToMillis(handler.getPercentileNanos(99)) + ", "
+                                    + TimeFormatter.formatNanosToMillis(handler.getMaxNanos()));
+                        }
+                    }
+
+                    for (EventFilter filter : this.plugin.getListenerRegistryFactory().getEventFilters()) {
+                        sender.sendMessage(" - " + filter.getName() + " dropped " + filter.getDroppedCount() + " events");
+                    }
+                });
+    }
+}
@@ -1,6 +1,11 @@
 package com.github.liamdev06.component;
 
 import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.scheduler.SchedulerSettings;
+import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a component within the code-base, like a manager class.
@@ -22,10 +27,52 @@ public interface Component {
      */
     default void onDisable() { }
 
+    /**
+     * Called when the component is being enabled, allowing the enabling to complete asynchronously.
+     * <p>
+     * Override this instead of {@link #onEnable()} when enabling involves independent I/O. The {@link ComponentManager}
+     * calls this on the main thread in dependency order, components in the same dependency layer are enabled concurrently
+     * and components depending on this one are only enabled once the returned future completes.
+     * <p>
+     * The main thread waits for the returned future, while still running the tasks handed to
+     * {@link SchedulerAdapter#sync()}. The future may therefore depend on work continued on the main thread with
+     * {@link SchedulerAdapter#thenSync(CompletableFuture, java.util.function.Function) thenSync},
+     * {@link SchedulerAdapter#supplySync(java.util.function.Supplier) supplySync} or {@link SchedulerAdapter#executeSync(Runnable) executeSync},
+     * as long as the main thread queue of {@link SchedulerSettings#isMainThreadQueue()} is enabled. It must not depend on
+     * delayed or repeating synchronous tasks, as no server tick runs until the main thread stops waiting.
+     * <p>
+     * By default, this calls {@link #onEnable()} and returns a completed future.
+     *
+     * @return Future completing once this component is enabled.
+     */
+    default @NonNull CompletableFuture<Void> onEnableAsync() {
+        this.onEnable();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Called when the component is being disabled, allowing the disabling to complete asynchronously.
+     * <p>
+     * Override this instead of {@link #onDisable()} when disabling involves independent I/O. Components are
+     * disabled in reverse dependency order, so a component is only disabled once every component depending on it
+     * has completed its returned future.
+     * <p>
+     * The returned future may depend on the same main thread work as the future of {@link #onEnableAsync()}.
+     * <p>
+     * By default, this calls {@link #onDisable()} and returns a completed future.
+     *
+     * @return Future completing once this component is disabled.
+     */
+    default @NonNull CompletableFuture<Void> onDisableAsync() {
+        this.onDisable();
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * If the parent application should automatically call the {@link #onEnable()} method for this component.
      * <p>
      * Otherwise, the parent application needs to manually enable this component through {@link Component#onEnable()}.
+     * This also applies to {@link #onEnableAsync()}.
      *
      * @return If this component is automatically enabled or not. By default, this is {@code true}.
      */
@@ -37,6 +84,7 @@ public interface Component {
      * If the parent application should automatically call the {@link #onDisable()} method for this component.
      * <p>
      * Otherwise, the parent application needs to manually disable this component through {@link Component#onDisable()}.
+     * This also applies to {@link #onDisableAsync()}.
      *
      * @return If this component is automatically disabled or not. By default, this is {@code true}.
      */
@@ -3,25 +3,57 @@ package com.github.liamdev06.component;
 import com.github.liamdev06.LPlugin;
 import com.github.liamdev06.registry.RegistryFactory;
 import com.github.liamdev06.registry.component.AutoRegisteringFeature;
+import com.github.liamdev06.scheduler.TaskGroup;
+import com.github.liamdev06.utils.java.AnnotationCache;
 import com.github.liamdev06.utils.java.LoggerUtil;
 import com.github.liamdev06.utils.java.SinglePointInitiator;
+import com.github.liamdev06.utils.java.TimeFormatter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Manages and stores all components within the target application.
  */
 public class ComponentManager extends SinglePointInitiator implements AutoRegisteringFeature {
 
+    private static final @NonNull String CONSTRUCTION_THREAD_PREFIX = "liam-tools-component-";
+    private static final @NonNull Duration DEFAULT_LIFECYCLE_TIMEOUT = Duration.ofSeconds(30);
+    private static final @NonNull AnnotationCache<DependencyComponent> DEPENDENCIES = new AnnotationCache<>(DependencyComponent.class);
+    private static final @NonNull AnnotationCache<ConcurrentComponent> CONCURRENT = new AnnotationCache<>(ConcurrentComponent.class);
+    private static final @NonNull AnnotationCache<LazyComponent> LAZY = new AnnotationCache<>(LazyComponent.class);
+
+    private final @NonNull LPlugin entryPoint;
     private final @NonNull Logger logger;
     private final @NonNull Map<Class<? extends Component>, Component> components;
+    private final @NonNull Map<Class<? extends Component>, LazyComponentHolder> lazyComponents;
+    private final @NonNull ClassValue<ComponentRef<?>> refs;
+    private final @NonNull Map<Class<? extends Component>, TaskGroup> taskGroups;
     private final @NonNull RegistryFactory registryFactory;
 
+    private @NonNull Duration enableTimeout = DEFAULT_LIFECYCLE_TIMEOUT;
+    private @NonNull Duration disableTimeout = DEFAULT_LIFECYCLE_TIMEOUT;
+    private volatile boolean enabled;
+
     public ComponentManager(@NonNull LPlugin entryPoint, @NonNull RegistryFactory registryFactory) {
-        this.components = new HashMap<>();
+        this.entryPoint = entryPoint;
+        this.components = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.lazyComponents = new ConcurrentHashMap<>();
+        this.refs = new ClassValue<>() {
+            @Override
+            protected @NonNull ComponentRef<?> computeValue(@NonNull Class<?> type) {
+                return new ComponentRef<>(type.asSubclass(Component.class), ComponentManager.this);
+            }
+        };
+        this.taskGroups = new ConcurrentHashMap<>();
         this.logger = LoggerUtil.createLoggerWithIdentifier(entryPoint, this);
         this.registryFactory = registryFactory;
         this.registryFactory.registerAutoRegisteringComponent(this);
@@ -34,7 +66,12 @@ public class ComponentManager extends SinglePointInitiator implements AutoRegist
      * @param componentClass The class of the component to register.
      */
     public void registerComponent(@NonNull Class<? extends Component> componentClass) {
-        this.registerComponent(componentClass, null);
+        ConstructedComponent constructed = this.construct(componentClass);
+
+        // Instance returned null, exception log message is sent by registry factory
+        if (constructed != null) {
+            this.registerComponent(componentClass, constructed.instance(), constructed.constructionNanos());
+        }
     }
 
     /**
@@ -43,87 +80,520 @@ public class ComponentManager extends SinglePointInitiator implements AutoRegist
      * @param componentInstance Instance of the component.
      */
     public void registerComponent(@NonNull Component componentInstance) {
-        this.registerComponent(componentInstance.getClass(), componentInstance);
+        this.registerComponent(componentInstance.getClass(), componentInstance, -1);
     }
 
     /**
-     * Handles the logic for registering a component.
-     * <p>
-     * Depending on the provided parameters, the code will either only
-     * map the provided instance to the provided class, or also create a new instance of the provided class.
+     * Handles the logic for registering a component by mapping the provided instance to the provided class.
      *
      * @param componentClass The class of the component.
-     * @param componentInstance The instance of the component. If no instance exists and needs to be created, provide {@code null}.
+     * @param componentInstance The instance of the component.
+     * @param constructionNanos How long the construction of the instance took in nanoseconds, or {@code -1} if it was not created here.
      */
-    private void registerComponent(@NonNull Class<? extends Component> componentClass, @Nullable Component componentInstance) {
+    private void registerComponent(@NonNull Class<? extends Component> componentClass, @NonNull Component componentInstance, long constructionNanos) {
         String name = componentClass.getSimpleName();
 
-        if (componentInstance == null) {
-            componentInstance = (Component) this.registryFactory.createEffectiveInstance(componentClass);
-
-            // Instance returned null, exception log message is sent by registry factory
-            if (componentInstance == null) {
-                return;
-            }
-        }
-
         if (this.components.putIfAbsent(componentClass, componentInstance) != null) {
             throw new UnsupportedOperationException("Duplicate component registration of class " + name);
         }
+        this.refs.get(componentClass).set(componentInstance);
 
         if (this.registryFactory.isLoggingEnabled(componentClass)) {
-            this.logger.info("Registered component: " + name);
+            if (constructionNanos < 0) {
+                this.logger.info("Registered component: " + name);
+            } else {
+                this.logger.info("Registered component: " + name + " (constructed in " + TimeFormatter.formatNanosToMillis(constructionNanos) + ")");
+            }
         }
     }
 
+    /**
+     * Creates, or gets the existing, instance of a component through the {@link RegistryFactory} and measures how long it took.
+     *
+     * @param componentClass The class of the component to construct.
+     * @return The constructed component, or {@code null} if no instance could be created.
+     */
+    private @Nullable ConstructedComponent construct(@NonNull Class<? extends Component> componentClass) {
+        final long timeAtStart = System.nanoTime();
+        Component instance = (Component) this.registryFactory.createEffectiveInstance(componentClass);
+        if (instance == null) {
+            return null;
+        }
+        return new ConstructedComponent(instance, System.nanoTime() - timeAtStart);
+    }
+
     /**
      * Gets an instance of a component by providing its class.
+     * <p>
+     * If the component is a {@link LazyComponent} that has not been created yet, it is created together with its dependencies.
+     * Once a component is registered, this is served by its {@link #getRef(Class) cached reference}.
      *
      * @param componentClass The class of the component to get.
      * @return Instance of the target {@link Component}.
      */
     public <T extends Component> @Nullable T getComponent(@NonNull Class<T> componentClass) {
-        if (!this.components.containsKey(componentClass)) {
-            return null;
+        return this.getRef(componentClass).get();
+    }
+
+    /**
+     * Gets an instance of a component by providing its class, without waiting for a {@link LazyComponent} to be enabled.
+     * <p>
+     * If the component is a lazy component that has not been created yet, its creation is started. While the component
+     * is still enabling, an empty {@link Optional} is returned instead of waiting, so this is safe to call on the main thread.
+     *
+     * @param componentClass The class of the component to get.
+     * @return Instance of the target {@link Component} wrapped in an {@link Optional}, empty if it is not registered or still enabling.
+     * @throws IllegalStateException If the lazy component could not be created or failed to enable.
+     */
+    public <T extends Component> @NonNull Optional<T> getComponentIfReady(@NonNull Class<T> componentClass) {
+        return this.getRef(componentClass).getIfReady();
+    }
+
+    /**
+     * Looks up a component in the registered and lazy components, used when its {@link ComponentRef} has not cached it yet.
+     *
+     * @param componentClass The class of the component to get.
+     * @param wait If a lazy component that is still enabling should be waited for.
+     * @return Instance of the target {@link Component}, or {@code null} if it is not registered or still enabling without {@code wait}.
+     */
+    @Nullable <T extends Component> T resolveComponent(@NonNull Class<T> componentClass, boolean wait) {
+        Component component = this.components.get(componentClass);
+        if (component == null) {
+            LazyComponentHolder holder = this.lazyComponents.get(componentClass);
+            if (holder == null) {
+                return null;
+            }
+            component = holder.get(wait);
         }
-        return componentClass.cast(this.components.get(componentClass));
+        return componentClass.cast(component);
     }
 
     /**
+     * Gets the cached reference to a component.
+     * <p>
+     * The reference is created once per component class and returns the component after a single volatile read,
+     * which makes it the preferred way to look up a component on hot paths and from asynchronous threads.
+     *
+     * @param componentClass The class of the component to get the reference of.
+     * @return The {@link ComponentRef} of the component, also if the component is not registered yet.
+     */
+    public <T extends Component> @NonNull ComponentRef<T> getRef(@NonNull Class<T> componentClass) {
+        return (ComponentRef<T>) this.refs.get(componentClass);
+    }
+
+    /**
+     * Gets all registered components that have been created.
+     * <p>
+     * {@link LazyComponent Lazy components} are only included once they have been created.
+     * The returned map is synchronized, so it must be manually synchronized on when iterating over it.
+     *
      * @return All registered components.
      */
     public @NonNull Map<Class<? extends Component>, Component> getComponents() {
         return this.components;
     }
+
+    /**
+     * Gets the {@link TaskGroup} owned by a component, creating it on first use.
+     * <p>
+     * Tasks the component schedules through its group are cancelled once the component has been disabled
+     * by {@link #disableAllComponents()}, so the component does not have to cancel them itself.
+     *
+     * @param componentClass The class of the component to get the task group of.
+     * @return The task group of the component, named after the component.
+     */
+    public @NonNull TaskGroup getTaskGroup(@NonNull Class<? extends Component> componentClass) {
+        return this.taskGroups.computeIfAbsent(componentClass, key -> this.entryPoint.getSchedulerAdapter().group(key.getSimpleName()));
+    }
+
+    /**
+     * @param componentClass The class of the component to check.
+     * @return {@code true} if the component is a {@link LazyComponent} that has not been created yet, {@code false} otherwise.
+     */
+    public boolean isPendingLazyComponent(@NonNull Class<? extends Component> componentClass) {
+        final LazyComponentHolder holder = this.lazyComponents.get(componentClass);
+        return holder != null && holder.instance == null;
+    }
     
+    /**
+     * Instantiates and registers all auto registered components, one dependency layer at a time.
+     * <p>
+     * Components annotated with {@link ConcurrentComponent} are constructed concurrently with the other
+     * annotated components in their layer. Registration always happens in the order of the layers
+     * returned by {@link ComponentSorter#sortLayers()}, so the registration order stays deterministic.
+     * <p>
+     * Components annotated with {@link LazyComponent} are not instantiated here, unless an eagerly created component depends on them.
+     */
     @Override
     public void executeAutoRegistering(@NonNull RegistryFactory registryFactory) {
-        ComponentSorter componentSorter = new ComponentSorter(registryFactory.getClassesWithRegistryType(Component.class, Component.class));
-        for (Class<? extends Component> component : componentSorter.sort()) {
-            this.registerComponent(component);
+        final Set<Class<? extends Component>> componentClasses = registryFactory.getClassesWithRegistryType(Component.class, Component.class);
+        final ComponentSorter componentSorter = new ComponentSorter(componentClasses);
+        final Set<Class<? extends Component>> eagerClasses = componentSorter.resolveWithDependencies(componentClasses.stream()
+                .filter(componentClass -> !LAZY.isPresent(componentClass))
+                .toList());
+        ExecutorService executor = null;
+
+        try {
+            for (List<Class<? extends Component>> sortedLayer : componentSorter.sortLayers()) {
+                final List<Class<? extends Component>> layer = new ArrayList<>();
+                for (Class<? extends Component> componentClass : sortedLayer) {
+                    if (eagerClasses.contains(componentClass)) {
+                        layer.add(componentClass);
+                    } else {
+                        this.lazyComponents.put(componentClass, new LazyComponentHolder(componentClass));
+                    }
+                }
+
+                final List<Class<? extends Component>> concurrentClasses = layer.stream()
+                        .filter(CONCURRENT::isPresent)
+                        .toList();
+
+                // Start the concurrent constructions first, so they overlap with the ones on this thread
+                final Map<Class<? extends Component>, CompletableFuture<ConstructedComponent>> futures = new HashMap<>();
+                if (concurrentClasses.size() > 1) {
+                    if (executor == null) {
+                        executor = this.createConstructionExecutor();
+                    }
+                    for (Class<? extends Component> componentClass : concurrentClasses) {
+                        futures.put(componentClass, CompletableFuture.supplyAsync(() -> this.construct(componentClass), executor));
+                    }
+                }
+
+                final Map<Class<? extends Component>, ConstructedComponent> constructed = new HashMap<>();
+                for (Class<? extends Component> componentClass : layer) {
+                    if (!futures.containsKey(componentClass)) {
+                        constructed.put(componentClass, this.construct(componentClass));
+                    }
+                }
+                for (Map.Entry<Class<? extends Component>, CompletableFuture<ConstructedComponent>> entry : futures.entrySet()) {
+                    constructed.put(entry.getKey(), join(entry.getValue()));
+                }
+
+                for (Class<? extends Component> componentClass : layer) {
+                    ConstructedComponent component = constructed.get(componentClass);
+                    if (component != null) {
+                        this.registerComponent(componentClass, component.instance(), component.constructionNanos());
+                    }
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+
+        if (!this.lazyComponents.isEmpty()) {
+            this.logger.info("Deferred the creation of {} lazy components.", this.lazyComponents.size());
+        }
+    }
+
+    /**
+     * Creates a {@link LazyComponent} after creating its dependencies, and enables it on the main thread if the components
+     * are already enabled. The component is only registered once it has been enabled, so no lookup can see it before.
+     *
+     * @param componentClass The class of the lazy component to create.
+     * @return Future completing with the created component once it is registered.
+     * @throws IllegalStateException If a dependency is not registered or the component could not be created.
+     */
+    private @NonNull CompletableFuture<Component> createLazyComponent(@NonNull Class<? extends Component> componentClass) {
+        final DependencyComponent dependencies = DEPENDENCIES.find(componentClass);
+        if (dependencies != null) {
+            for (Class<? extends Component> dependency : dependencies.value()) {
+                if (this.getComponent(dependency) == null) {
+                    throw new IllegalStateException("Dependency " + dependency.getSimpleName() + " of lazy component " + componentClass.getSimpleName() + " is not registered.");
+                }
+            }
+        }
+
+        final ConstructedComponent constructed = this.construct(componentClass);
+        if (constructed == null) {
+            throw new IllegalStateException("Could not create lazy component " + componentClass.getSimpleName() + ".");
+        }
+
+        final Component component = constructed.instance();
+        if (!this.enabled || !component.canAutoEnable()) {
+            this.registerComponent(componentClass, component, constructed.constructionNanos());
+            return CompletableFuture.completedFuture(component);
+        }
+
+        // Enabled directly when requested on the main thread, otherwise handed to it like the enable phase
+        return this.entryPoint.getSchedulerAdapter().supplySync(component::onEnableAsync)
+                .thenCompose(Function.identity())
+                .handle((ignored, throwable) -> {
+                    if (throwable != null) {
+                        this.cancelTaskGroup(component);
+                        throw new IllegalStateException("Lazy component " + componentClass.getSimpleName() + " failed to enable.",
+                                throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                    }
+
+                    this.registerComponent(componentClass, component, constructed.constructionNanos());
+                    return component;
+                });
+    }
+
+    private @NonNull ExecutorService createConstructionExecutor() {
+        final AtomicInteger count = new AtomicInteger(0);
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, CONSTRUCTION_THREAD_PREFIX + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static <T> @Nullable T join(@NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
         }
     }
 
     /**
      * Enables all registered and instantiated {@link Component components} that
      * are marked to be automatically enabled with {@link Component#canAutoEnable()}.
+     * <p>
+     * Components are enabled through {@link Component#onEnableAsync()} one dependency layer at a time, so the components
+     * of a layer run concurrently while their dependencies are guaranteed to have finished enabling.
+     *
+     * @throws IllegalStateException If a component fails to enable or does not finish within the {@link #setEnableTimeout(Duration) enable timeout}.
      */
     public void enableAllComponents() {
-        for (Component component : this.components.values()) {
-            if (component.canAutoEnable()) {
-                component.onEnable();
-            }
-        }
+        // Lazy components created from here on are enabled on creation, as they are not part of this phase
+        this.enabled = true;
+        this.runLifecycle("enable", this.enableTimeout, false, Component::canAutoEnable, Component::onEnableAsync);
     }
 
     /**
      * Disables all registered and instantiated {@link Component components} that
      * are marked to be automatically disabled with {@link Component#canAutoDisable()}.
+     * <p>
+     * Components are disabled through {@link Component#onDisableAsync()} in reverse dependency order. A component that
+     * fails or does not finish within the {@link #setDisableTimeout(Duration) disable timeout} is logged, and the
+     * remaining components are still disabled.
+     * <p>
+     * Once a component has been disabled, the tasks still running in its {@link #getTaskGroup(Class) task group} are cancelled.
      */
     public void disableAllComponents() {
-        for (Component component : this.components.values()) {
-            if (component.canAutoDisable()) {
-                component.onDisable();
+        this.enabled = false;
+        this.runLifecycle("disable", this.disableTimeout, true, Component::canAutoDisable, component -> {
+            try {
+                return component.onDisableAsync().whenComplete((ignored, throwable) -> this.cancelTaskGroup(component));
+            } catch (RuntimeException exception) {
+                this.cancelTaskGroup(component);
+                throw exception;
+            }
+        });
+    }
+
+    /**
+     * Cancels the tasks still running in the task group of a component, if it has one.
+     *
+     * @param component The component to cancel the tasks of.
+     */
+    private void cancelTaskGroup(@NonNull Component component) {
+        final TaskGroup group = this.taskGroups.get(component.getClass());
+        if (group == null) {
+            return;
+        }
+
+        final int cancelled = group.cancelAll();
+        if (cancelled > 0) {
+            this.logger.debug("Cancelled " + cancelled + " tasks of component " + component.getClass().getSimpleName() + ".");
+        }
+    }
+
+    /**
+     * Runs a lifecycle phase over all registered components, layer by layer, and logs how long every component took.
+     *
+     * @param phase Name of the phase, used for logging.
+     * @param timeout Maximum time the whole phase may take.
+     * @param shutdown If this is the shutdown phase, which runs the layers in reverse and never throws.
+     * @param filter Filter for the components that take part in this phase.
+     * @param action The lifecycle method to call on each component.
+     */
+    private void runLifecycle(@NonNull String phase,
+                              @NonNull Duration timeout,
+                              boolean shutdown,
+                              @NonNull Predicate<Component> filter,
+                              @NonNull Function<Component, CompletableFuture<Void>> action) {
+        final long timeAtStart = System.nanoTime();
+        final long deadline = timeAtStart + timeout.toNanos();
+        final Map<String, Long> timings = new LinkedHashMap<>();
+
+        final Set<Class<? extends Component>> componentClasses;
+        synchronized (this.components) {
+            componentClasses = new LinkedHashSet<>(this.components.keySet());
+        }
+
+        final List<List<Class<? extends Component>>> layers = new ArrayList<>(new ComponentSorter(componentClasses).sortLayers());
+        if (shutdown) {
+            Collections.reverse(layers);
+        }
+
+        for (List<Class<? extends Component>> layer : layers) {
+            final Map<Class<? extends Component>, CompletableFuture<Long>> pending = new LinkedHashMap<>();
+
+            for (Class<? extends Component> componentClass : layer) {
+                Component component = this.components.get(componentClass);
+                if (component == null || !filter.test(component)) {
+                    continue;
+                }
+
+                final long componentStart = System.nanoTime();
+                CompletableFuture<Void> future;
+                try {
+                    future = action.apply(component);
+                } catch (RuntimeException exception) {
+                    if (!shutdown) {
+                        throw exception;
+                    }
+                    future = CompletableFuture.failedFuture(exception);
+                }
+                pending.put(componentClass, future.thenApply(ignored -> System.nanoTime() - componentStart));
+            }
+
+            for (Map.Entry<Class<? extends Component>, CompletableFuture<Long>> entry : pending.entrySet()) {
+                final String name = entry.getKey().getSimpleName();
+
+                try {
+                    // Waits through the scheduler, which keeps running tasks handed to the main thread meanwhile
+                    timings.put(name, this.entryPoint.getSchedulerAdapter().await(entry.getValue(), Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException exception) {
+                    final String message = "Component " + name + " did not " + phase + " within " + timeout.toMillis() + "ms.";
+                    if (!shutdown) {
+                        throw new IllegalStateException(message);
+                    }
+                    this.logger.error(message);
+                } catch (ExecutionException exception) {
+                    if (!shutdown) {
+                        throw new IllegalStateException("Component " + name + " failed to " + phase + ".", exception.getCause());
+                    }
+                    this.logger.error("Component " + name + " failed to " + phase + ".", exception.getCause());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    final String message = "Interrupted while waiting for component " + name + " to " + phase + ".";
+                    if (!shutdown) {
+                        throw new IllegalStateException(message, exception);
+                    }
+                    this.logger.error(message, exception);
+                    return;
+                }
+            }
+        }
+
+        this.logger.info("Completed the {} phase of {} components in {}.", phase, timings.size(), TimeFormatter.formatNanosToMillis(System.nanoTime() - timeAtStart));
+        timings.forEach((name, nanos) -> this.logger.info(" - {}: {}", name, TimeFormatter.formatNanosToMillis(nanos)));
+    }
+
+    /**
+     * Sets the maximum time enabling all components may take.
+     *
+     * @param timeout The enable timeout. By default, this is 30 seconds.
+     */
+    public void setEnableTimeout(@NonNull Duration timeout) {
+        this.enableTimeout = timeout;
+    }
+
+    /**
+     * Sets the maximum time disabling all components may take.
+     *
+     * @param timeout The disable timeout. By default, this is 30 seconds.
+     */
+    public void setDisableTimeout(@NonNull Duration timeout) {
+        this.disableTimeout = timeout;
+    }
+
+    /**
+     * A component instance together with how long its construction took.
+     *
+     * @param instance The component instance.
+     * @param constructionNanos How long the construction took in nanoseconds.
+     */
+    private record ConstructedComponent(@NonNull Component instance, long constructionNanos) { }
+
+    /**
+     * Holds a {@link LazyComponent} until it is created the first time it is requested.
+     * <p>
+     * The first lookup starts the creation, and concurrent lookups wait for the same creation without holding a lock,
+     * as the creation may wait for the main thread. A failed creation is forgotten, so the next lookup tries again.
+     */
+    private final class LazyComponentHolder {
+        private final @NonNull Class<? extends Component> componentClass;
+        private final @NonNull AtomicReference<CompletableFuture<Component>> creation;
+        private volatile @Nullable Component instance;
+
+        private LazyComponentHolder(@NonNull Class<? extends Component> componentClass) {
+            this.componentClass = componentClass;
+            this.creation = new AtomicReference<>();
+        }
+
+        private @Nullable Component get(boolean wait) {
+            final Component instance = this.instance;
+            if (instance != null) {
+                return instance;
+            }
+
+            CompletableFuture<Component> creation = this.creation.get();
+            if (creation == null) {
+                final CompletableFuture<Component> started = new CompletableFuture<>();
+                if (this.creation.compareAndSet(null, started)) {
+                    this.start(started);
+                    creation = started;
+                } else if ((creation = this.creation.get()) == null) {
+                    // The creation started by another lookup failed in the meantime, try again
+                    return this.get(wait);
+                }
+            }
+            if (!wait && !creation.isDone()) {
+                return null;
+            }
+            return this.await(creation);
+        }
+
+        private void start(@NonNull CompletableFuture<Component> started) {
+            CompletableFuture<Component> creation;
+            try {
+                creation = ComponentManager.this.createLazyComponent(this.componentClass);
+            } catch (RuntimeException exception) {
+                creation = CompletableFuture.failedFuture(exception);
+            }
+
+            creation.whenComplete((component, throwable) -> {
+                if (throwable != null) {
+                    this.creation.compareAndSet(started, null);
+                    started.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                } else {
+                    this.instance = component;
+                    started.complete(component);
+                }
+            });
+        }
+
+        /**
+         * Waits for the creation of the component. The main thread never waits, as the creation may need it to enable the component,
+         * lookups on the main thread that cannot rely on the component being enabled go through {@link #getComponentIfReady(Class)}.
+         */
+        private @NonNull Component await(@NonNull CompletableFuture<Component> creation) {
+            final String name = this.componentClass.getSimpleName();
+            if (!creation.isDone() && ComponentManager.this.entryPoint.getSchedulerAdapter().isSyncThread()) {
+                throw new IllegalStateException("Lazy component " + name + " is still being enabled and cannot be waited for on the main thread, use getComponentIfReady instead.");
+            }
+
+            try {
+                return creation.get(ComponentManager.this.enableTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException exception) {
+                throw new IllegalStateException("Lazy component " + name + " did not enable within " + ComponentManager.this.enableTimeout.toMillis() + "ms.");
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof IllegalStateException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Lazy component " + name + " failed to be created.", exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while creating lazy component " + name + ".", exception);
             }
         }
     }
@@ -134,24 +604,32 @@ public class ComponentManager extends SinglePointInitiator implements AutoRegist
      * components with dependencies are registered after their dependencies.
      */
     protected static class ComponentSorter {
-        private final @NonNull Map<Class<? extends Component>, List<Class<? extends Component>>> componentDependencies;
+        private static final @NonNull Comparator<Class<?>> NAME_ORDER = Comparator.comparing(Class::getName);
+
+        private final @NonNull Map<Class<? extends Component>, Set<Class<? extends Component>>> componentDependencies;
 
         /**
          * Constructs a new component sorter with the provided set of components.
          * A component may be annotated with {@link DependencyComponent} which means it has a dependencies to it.
+         * Dependencies that are not part of the provided set are sorted as well.
          *
          * @param components A set of classes representing components.
          */
         public ComponentSorter(@NonNull Set<Class<? extends Component>> components) {
-            final Map<Class<? extends Component>, List<Class<? extends Component>>> componentDependencies = new HashMap<>();
+            final Map<Class<? extends Component>, Set<Class<? extends Component>>> componentDependencies = new HashMap<>();
+            final Deque<Class<? extends Component>> pending = new ArrayDeque<>(components);
 
-            for (Class<? extends Component> component : components) {
-                List<Class<? extends Component>> dependencies;
+            while (!pending.isEmpty()) {
+                Class<? extends Component> component = pending.pop();
+                if (componentDependencies.containsKey(component)) {
+                    continue;
+                }
 
-                if (component.isAnnotationPresent(DependencyComponent.class)) {
-                    dependencies = Arrays.asList(component.getAnnotation(DependencyComponent.class).value());
-                } else {
-                    dependencies = Collections.emptyList();
+                Set<Class<? extends Component>> dependencies = new LinkedHashSet<>();
+                DependencyComponent annotation = DEPENDENCIES.find(component);
+                if (annotation != null) {
+                    dependencies.addAll(Arrays.asList(annotation.value()));
+                    pending.addAll(dependencies);
                 }
 
                 componentDependencies.put(component, dependencies);
@@ -160,6 +638,82 @@ public class ComponentManager extends SinglePointInitiator implements AutoRegist
             this.componentDependencies = componentDependencies;
         }
 
+        /**
+         * Resolves the provided components together with all of their direct and transitive dependencies.
+         *
+         * @param components The components to resolve. They must be part of the components this sorter was created with.
+         * @return Set of the provided components and all components they depend on.
+         */
+        public @NonNull Set<Class<? extends Component>> resolveWithDependencies(@NonNull Collection<Class<? extends Component>> components) {
+            final Set<Class<? extends Component>> resolved = new HashSet<>();
+            final Deque<Class<? extends Component>> pending = new ArrayDeque<>(components);
+
+            while (!pending.isEmpty()) {
+                Class<? extends Component> component = pending.pop();
+                if (resolved.add(component)) {
+                    pending.addAll(this.componentDependencies.getOrDefault(component, Collections.emptySet()));
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * Sorts the components into dependency layers.
+         * <p>
+         * Every component in a layer only depends on components in earlier layers, so the components
+         * within one layer do not depend on each other. Components inside a layer are ordered by class name
+         * to keep the order deterministic.
+         *
+         * @return A list of layers, each being a list of classes representing components.
+         * @throws IllegalStateException If the components have a circular dependency.
+         */
+        public @NonNull List<List<Class<? extends Component>>> sortLayers() {
+            final Map<Class<? extends Component>, Integer> remainingDependencies = new HashMap<>();
+            final Map<Class<? extends Component>, List<Class<? extends Component>>> dependents = new HashMap<>();
+            List<Class<? extends Component>> current = new ArrayList<>();
+
+            for (Map.Entry<Class<? extends Component>, Set<Class<? extends Component>>> entry : this.componentDependencies.entrySet()) {
+                remainingDependencies.put(entry.getKey(), entry.getValue().size());
+                for (Class<? extends Component> dependency : entry.getValue()) {
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+                }
+                if (entry.getValue().isEmpty()) {
+                    current.add(entry.getKey());
+                }
+            }
+
+            final List<List<Class<? extends Component>>> layers = new ArrayList<>();
+            int sorted = 0;
+
+            while (!current.isEmpty()) {
+                current.sort(NAME_ORDER);
+                layers.add(Collections.unmodifiableList(current));
+                sorted += current.size();
+
+                final List<Class<? extends Component>> next = new ArrayList<>();
+                for (Class<? extends Component> component : current) {
+                    for (Class<? extends Component> dependent : dependents.getOrDefault(component, Collections.emptyList())) {
+                        if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                            next.add(dependent);
+                        }
+                    }
+                }
+                current = next;
+            }
+
+            if (sorted != this.componentDependencies.size()) {
+                final Set<Class<? extends Component>> unresolved = new HashSet<>();
+                remainingDependencies.forEach((component, remaining) -> {
+                    if (remaining > 0) {
+                        unresolved.add(component);
+                    }
+                });
+                throw new IllegalStateException("Circular component dependency detected: " + this.describeCycle(unresolved));
+            }
+
+            return layers;
+        }
+
         /**
          * Sorts the components based on their dependencies and returns the sorted list.
          * <p>
@@ -167,50 +721,41 @@ public class ComponentManager extends SinglePointInitiator implements AutoRegist
          * sure they are instantiated in the correct order.
          *
          * @return A list of classes representing components, sorted based on their dependencies.
+         * @throws IllegalStateException If the components have a circular dependency.
+         * @see #sortLayers()
          */
         public @NonNull List<Class<? extends Component>> sort() {
-            final Set<Class<? extends Component>> visited = new HashSet<>();
-            final Deque<Class<? extends Component>> stack = new LinkedList<>();
-
-            // Visit each component if not already visited
-            for (Class<? extends Component> componentClass : this.componentDependencies.keySet()) {
-                if (!visited.contains(componentClass)) {
-                    this.visit(componentClass, visited, stack);
-                }
+            final List<Class<? extends Component>> list = new ArrayList<>();
+            for (List<Class<? extends Component>> layer : this.sortLayers()) {
+                list.addAll(layer);
             }
-
-            // Return the list as classes but reverse to get correct registration order
-            List<Class<? extends Component>> list = new ArrayList<>();
-            while (!stack.isEmpty()) {
-                list.add(stack.pop());
-            }
-            Collections.reverse(list);
             return list;
         }
 
         /**
-         * Recursively visits the components and their dependencies, adding them to the stack in correct order.
+         * Follows the dependencies between unresolved components until a component repeats, which describes one cycle.
          *
-         * @param componentClass The component class to be visited.
-         * @param visited A set to keep track of visited components.
-         * @param stack A stack to store components in the correct order.
+         * @param unresolved Components that could not be sorted, every one of them depends on another unresolved component.
+         * @return The cycle formatted as "A -> B -> A".
          */
-        private void visit(@NonNull Class<? extends Component> componentClass,
-                           @NonNull Set<Class<? extends Component>> visited,
-                           @NonNull Deque<Class<? extends Component>> stack) {
-            visited.add(componentClass);
-
-            List<Class<? extends Component>> dependencies = this.componentDependencies.get(componentClass);
-            if (dependencies != null) {
-                for (Class<? extends Component> dependency : dependencies) {
-                    if (visited.contains(dependency)) {
-                        continue;
-                    }
-                    this.visit(dependency, visited, stack);
-                }
+        private @NonNull String describeCycle(@NonNull Set<Class<? extends Component>> unresolved) {
+            final List<Class<? extends Component>> path = new ArrayList<>();
+            Class<? extends Component> current = unresolved.stream().min(NAME_ORDER).orElseThrow();
+
+            while (!path.contains(current)) {
+                path.add(current);
+                current = this.componentDependencies.get(current)
+                        .stream()
+                        .filter(unresolved::contains)
+                        .min(NAME_ORDER)
+                        .orElseThrow();
             }
 
-            stack.push(componentClass);
+            final StringJoiner joiner = new StringJoiner(" -> ");
+            for (Class<? extends Component> component : path.subList(path.indexOf(current), path.size())) {
+                joiner.add(component.getSimpleName());
+            }
+            return joiner.add(current.getSimpleName()).toString();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.github.liamdev06.component;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Typed handle to a component registered in a {@link ComponentManager}.
+ * <p>
+ * A reference caches the component instance once it is registered, so {@link #get()} is a single volatile read
+ * and can be called from any thread. References are obtained through {@link ComponentManager#getRef(Class)} and
+ * are meant to be kept in a field, for example in a listener that needs the component on every event.
+ *
+ * @param <T> The type of the component.
+ */
+public final class ComponentRef<T extends Component> {
+
+    private final @NonNull Class<T> componentClass;
+    private final @NonNull ComponentManager componentManager;
+    private volatile @Nullable T instance;
+
+    ComponentRef(@NonNull Class<T> componentClass, @NonNull ComponentManager componentManager) {
+        this.componentClass = componentClass;
+        this.componentManager = componentManager;
+    }
+
+    /**
+     * Gets the component this reference points to.
+     * <p>
+     * If the component is a {@link LazyComponent} that has not been created yet, it is created by this call.
+     *
+     * @return Instance of the component, or {@code null} if it is not registered.
+     */
+    public @Nullable T get() {
+        final T instance = this.instance;
+        if (instance != null) {
+            return instance;
+        }
+        return this.instance = this.componentManager.resolveComponent(this.componentClass, true);
+    }
+
+    /**
+     * Gets the component this reference points to, without waiting for a {@link LazyComponent} to be enabled.
+     * <p>
+     * If the component is a lazy component that has not been created yet, its creation is started by this call.
+     *
+     * @return Instance of the component wrapped in an {@link Optional}, empty if it is not registered or still enabling.
+     * @throws IllegalStateException If the lazy component could not be created or failed to enable.
+     * @see ComponentManager#getComponentIfReady(Class)
+     */
+    public @NonNull Optional<T> getIfReady() {
+        T instance = this.instance;
+        if (instance == null) {
+            instance = this.componentManager.resolveComponent(this.componentClass, false);
+            if (instance != null) {
+                this.instance = instance;
+            }
+        }
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * Gets the component this reference points to.
+     *
+     * @return Instance of the component.
+     * @throws NullPointerException If the component is not registered.
+     */
+    public @NonNull T require() {
+        final T instance = this.get();
+        if (instance == null) {
+            throw new NullPointerException("The component with class " + this.componentClass.getSimpleName() + " is null");
+        }
+        return instance;
+    }
+
+    /**
+     * Caches the registered instance of the component.
+     *
+     * @param instance The registered instance.
+     */
+    void set(@NonNull Component instance) {
+        this.instance = this.componentClass.cast(instance);
+    }
+
+    /**
+     * @return The class of the component this reference points to.
+     */
+    public @NonNull Class<T> getComponentClass() {
+        return this.componentClass;
+    }
+}
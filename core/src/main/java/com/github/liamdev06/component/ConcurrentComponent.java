@@ -0,0 +1,21 @@
+package com.github.liamdev06.component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link Component} as safe to instantiate concurrently with other components.
+ * <p>
+ * When several components annotated with this share the same dependency layer, the {@link ComponentManager}
+ * constructs them at the same time on a bounded pool of worker threads, so a slow constructor does not hold up
+ * unrelated components. Their dependencies are still instantiated before them.
+ * <p>
+ * The constructor of an annotated component must be thread-safe and may not use any API that is only
+ * allowed on the main server thread.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConcurrentComponent {
+}
@@ -0,0 +1,31 @@
+package com.github.liamdev06.component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an auto registered {@link Component} to only be instantiated the first time it is requested.
+ * <p>
+ * Instead of constructing the component on startup, the {@link ComponentManager} creates it together with its
+ * {@link DependencyComponent dependencies} the first time {@link ComponentManager#getComponent(Class)} asks for it.
+ * Creation is thread-safe, and a lookup only returns the component once it has been created and enabled. A lazy component
+ * that is created after the components have been enabled is enabled right away, and a lazy component that was never
+ * created is skipped on shutdown. If creating or enabling the component fails, nothing is registered and the next lookup
+ * tries again.
+ * <p>
+ * A lazy component that another, eagerly created component depends on is created on startup like any other component.
+ * The constructor runs on the thread requesting the component, while {@link Component#onEnableAsync()} always runs on
+ * the main thread. The main thread never waits for an enable that completes asynchronously, a lookup on the main
+ * thread throws an {@link IllegalStateException} while the component is still enabling.
+ * <p>
+ * Code on the main thread that may request a lazy component whose {@link Component#onEnableAsync()} completes
+ * asynchronously should use {@link ComponentManager#getComponentIfReady(Class)} or {@link ComponentRef#getIfReady()}.
+ * These start the creation like any lookup, but return an empty {@link java.util.Optional} while the component is
+ * still enabling instead of throwing.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LazyComponent {
+}
@@ -0,0 +1,426 @@
+package com.github.liamdev06.cooldown;
+
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.component.Component;
+import com.github.liamdev06.scheduler.BukkitSchedulerAdapter;
+import com.github.liamdev06.scheduler.TaskOptions;
+import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.tick.BudgetedTask;
+import com.github.liamdev06.utils.bukkit.TickUtil;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Component keeping cooldowns of players per action, without scheduling a task per cooldown.
+ * <p>
+ * The deadlines of every action are stored in a primitive {@link Object2LongOpenHashMap} keyed by the player {@link UUID}.
+ * An expired cooldown is removed lazily when it is read, and the remaining expired cooldowns are removed by a sweep
+ * that runs on the main thread within a time budget per tick, continuing in the next tick where it stopped. The sweep
+ * walks the concurrent maps described below, whose iterators survive changes, so it never has to start over.
+ * <p>
+ * The primitive maps are confined to the main thread, so main thread reads never take a lock. Other threads, like
+ * the threads of async chat events or the region threads of Folia, can use every method as well:
+ * <ul>
+ *     <li>Reads see a concurrent copy of the primitive maps, to which the main thread publishes the cooldowns changed
+ *     during a tick at the end of it, so cooldowns set or reset on the main thread may be seen up to a tick late.
+ *     Publishing only costs as much as the amount of changed cooldowns, not the amount of stored cooldowns.</li>
+ *     <li>Cooldowns set from other threads are kept in a concurrent map of the action, which every thread reads
+ *     directly, so {@link #tryUse(UUID, String, long, TimeUnit)} is atomic between other threads.</li>
+ *     <li>Resetting from another thread removes the cooldown from the concurrent map directly, and from the primitive
+ *     map on the main thread.</li>
+ * </ul>
+ * On Folia, the main thread is the global region thread the {@link SchedulerAdapter#sync()} executor runs on.
+ * <p>
+ * This component is not auto registered, register it through {@link com.github.liamdev06.component.ComponentManager#registerComponent(Class)}.
+ */
+public class CooldownManager implements Component {
+
+    private static final long ABSENT = Long.MIN_VALUE;
+    private static final long SWEEP_INTERVAL_SECONDS = 30;
+    private static final long SWEEP_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int SWEEP_CHECK_INTERVAL = 256;
+    private static final @NonNull String LABEL = "cooldown-sweep";
+    private static final @NonNull String PUBLISH_LABEL = "cooldown-publish";
+
+    private final @NonNull LPlugin plugin;
+    private final @NonNull Map<String, Action> actions;
+    private final @NonNull List<Action> sweepActions;
+
+    // Position of the sweep, confined to the main thread
+    private int sweepIndex;
+    private boolean sweepingShared;
+    private @Nullable Iterator<Map.Entry<UUID, Long>> sweepIterator;
+
+    private @Nullable SchedulerTask sweepTask;
+    private @Nullable SchedulerTask publishTask;
+
+    public CooldownManager(@NonNull LPlugin plugin) {
+        this.plugin = plugin;
+        this.actions = new ConcurrentHashMap<>();
+        this.sweepActions = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void onEnable() {
+        final SchedulerAdapter adapter = this.plugin.getSchedulerAdapter();
+        final BudgetedTask sweep = this::sweep;
+        if (adapter instanceof BukkitSchedulerAdapter bukkitAdapter) {
+            this.sweepTask = bukkitAdapter.syncRepeating(sweep, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS, SWEEP_BUDGET_NANOS, TimeUnit.NANOSECONDS);
+        } else {
+            this.sweepTask = adapter.syncRepeating(() -> {
+                while (!this.sweep(Long.MAX_VALUE)) {
+                    // Sweep every action at once without a tick driver to continue in
+                }
+            }, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS, TaskOptions.labelled(LABEL));
+        }
+        this.publishTask = adapter.syncRepeating(this::publish, TickUtil.TICK_IN_MILLIS, TickUtil.TICK_IN_MILLIS, TimeUnit.MILLISECONDS, TaskOptions.labelled(PUBLISH_LABEL));
+    }
+
+    @Override
+    public void onDisable() {
+        if (this.sweepTask != null) {
+            this.sweepTask.cancel();
+            this.sweepTask = null;
+        }
+        if (this.publishTask != null) {
+            this.publishTask.cancel();
+            this.publishTask = null;
+        }
+        this.actions.clear();
+        this.sweepActions.clear();
+        this.resetSweep();
+        this.sweepIndex = 0;
+    }
+
+    /**
+     * Puts a player on cooldown for an action, replacing any current cooldown.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param action The action the cooldown applies to.
+     * @param duration The duration of the cooldown.
+     * @param unit The {@link TimeUnit} of the {@param duration}.
+     */
+    public void setCooldown(@NonNull UUID uuid, @NonNull String action, long duration, @NonNull TimeUnit unit) {
+        final Action cooldowns = this.getOrCreate(action);
+        final long deadline = System.nanoTime() + unit.toNanos(duration);
+        if (this.isMainThread()) {
+            cooldowns.shared.remove(uuid);
+            cooldowns.put(uuid, deadline);
+            return;
+        }
+
+        cooldowns.shared.put(uuid, deadline);
+        this.plugin.getSchedulerAdapter().executeSync(() -> {
+            // Only replace the cooldown of the main thread if this cooldown was not replaced in the meantime
+            final Long current = cooldowns.shared.get(uuid);
+            if (current != null && current == deadline) {
+                cooldowns.remove(uuid);
+            }
+        });
+    }
+
+    /**
+     * Puts a player on cooldown for an action if the player is not already on cooldown for it.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param action The action the cooldown applies to.
+     * @param duration The duration of the cooldown.
+     * @param unit The {@link TimeUnit} of the {@param duration}.
+     * @return {@code true} if the player was not on cooldown and now is, {@code false} if the player already was on cooldown.
+     */
+    public boolean tryUse(@NonNull UUID uuid, @NonNull String action, long duration, @NonNull TimeUnit unit) {
+        if (this.isMainThread()) {
+            if (this.getRemainingNanos(uuid, action) > 0) {
+                return false;
+            }
+
+            this.getOrCreate(action).put(uuid, System.nanoTime() + unit.toNanos(duration));
+            return true;
+        }
+
+        final Action cooldowns = this.getOrCreate(action);
+        final long now = System.nanoTime();
+        if (remainingOf(cooldowns.published.get(uuid), now) > 0) {
+            return false;
+        }
+
+        final long deadline = now + unit.toNanos(duration);
+        final boolean[] used = new boolean[1];
+        cooldowns.shared.compute(uuid, (key, current) -> {
+            if (current != null && current - now > 0) {
+                return current;
+            }
+            used[0] = true;
+            return deadline;
+        });
+        return used[0];
+    }
+
+    /**
+     * @param uuid The {@link UUID} of the player.
+     * @param action The action to check.
+     * @return {@code true} if the player is on cooldown for the action, {@code false} otherwise.
+     */
+    public boolean isOnCooldown(@NonNull UUID uuid, @NonNull String action) {
+        return this.getRemainingNanos(uuid, action) > 0;
+    }
+
+    /**
+     * @param uuid The {@link UUID} of the player.
+     * @param action The action to check.
+     * @param unit The {@link TimeUnit} to return the remaining time in.
+     * @return The remaining time of the cooldown rounded up, or {@code 0} if the player is not on cooldown for the action.
+     */
+    public long getRemaining(@NonNull UUID uuid, @NonNull String action, @NonNull TimeUnit unit) {
+        final long remaining = this.getRemainingNanos(uuid, action);
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        final long unitNanos = unit.toNanos(1);
+        return (remaining + unitNanos - 1) / unitNanos;
+    }
+
+    /**
+     * Removes the cooldown of a player for an action.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param action The action to remove the cooldown of.
+     */
+    public void resetCooldown(@NonNull UUID uuid, @NonNull String action) {
+        final Action cooldowns = this.actions.get(action);
+        if (cooldowns == null) {
+            return;
+        }
+
+        cooldowns.shared.remove(uuid);
+        if (this.isMainThread()) {
+            cooldowns.remove(uuid);
+        } else {
+            this.plugin.getSchedulerAdapter().executeSync(() -> cooldowns.remove(uuid));
+        }
+    }
+
+    /**
+     * Removes all cooldowns of a player.
+     *
+     * @param uuid The {@link UUID} of the player.
+     */
+    public void resetCooldowns(@NonNull UUID uuid) {
+        for (Action cooldowns : this.sweepActions) {
+            cooldowns.shared.remove(uuid);
+        }
+
+        if (!this.isMainThread()) {
+            this.plugin.getSchedulerAdapter().executeSync(() -> this.resetCooldowns(uuid));
+            return;
+        }
+
+        for (Action cooldowns : this.sweepActions) {
+            cooldowns.remove(uuid);
+        }
+    }
+
+    /**
+     * @return Amount of stored cooldowns, including expired cooldowns that have not been removed yet.
+     */
+    public int size() {
+        final boolean mainThread = this.isMainThread();
+        int size = 0;
+        for (Action cooldowns : this.sweepActions) {
+            size += (mainThread ? cooldowns.deadlines.size() : cooldowns.published.size()) + cooldowns.shared.size();
+        }
+        return size;
+    }
+
+    private long getRemainingNanos(@NonNull UUID uuid, @NonNull String action) {
+        final Action cooldowns = this.actions.get(action);
+        if (cooldowns == null) {
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        final long shared = remainingOf(cooldowns.shared, uuid, now);
+        if (!this.isMainThread()) {
+            return Math.max(remainingOf(cooldowns.published.get(uuid), now), shared);
+        }
+
+        final long deadline = cooldowns.deadlines.getLong(uuid);
+        if (deadline == ABSENT) {
+            return shared;
+        }
+
+        final long remaining = deadline - now;
+        if (remaining <= 0) {
+            cooldowns.remove(uuid);
+        }
+        return Math.max(remaining, shared);
+    }
+
+    /**
+     * Expired cooldowns are not removed here, as the published copy is only changed by the main thread.
+     */
+    private static long remainingOf(@Nullable Long deadline, long now) {
+        return deadline == null ? 0 : deadline - now;
+    }
+
+    private static long remainingOf(@NonNull Map<UUID, Long> deadlines, @NonNull UUID uuid, long now) {
+        final Long deadline = deadlines.get(uuid);
+        if (deadline == null) {
+            return 0;
+        }
+
+        final long remaining = deadline - now;
+        if (remaining <= 0) {
+            deadlines.remove(uuid, deadline);
+        }
+        return remaining;
+    }
+
+    private @NonNull Action getOrCreate(@NonNull String action) {
+        return this.actions.computeIfAbsent(action, key -> {
+            final Action cooldowns = new Action();
+            this.sweepActions.add(cooldowns);
+            return cooldowns;
+        });
+    }
+
+    /**
+     * Publishes the cooldowns changed since the last tick to the copies read by other threads.
+     */
+    private void publish() {
+        for (Action cooldowns : this.sweepActions) {
+            if (!cooldowns.changes.isEmpty()) {
+                cooldowns.publish();
+            }
+        }
+    }
+
+    /**
+     * Removes the expired cooldowns of one action at a time until every action is swept or the deadline is reached.
+     * The deadline is checked every {@value #SWEEP_CHECK_INTERVAL} cooldowns, so a large action is swept across ticks
+     * as well.
+     * <p>
+     * The sweep walks the published copy of the primitive map instead of the primitive map itself, as the iterators of
+     * the concurrent map survive the changes made between ticks, so the sweep resumes where it stopped even when an action
+     * changes every tick. An expired cooldown is removed from the primitive map, and from the copy with the next publish.
+     * Cooldowns not published yet are swept by the next sweep.
+     *
+     * @param deadlineNanos The {@link System#nanoTime()} to stop sweeping at.
+     * @return {@code true} if every action has been swept, {@code false} if the sweep continues in the next tick.
+     */
+    private boolean sweep(long deadlineNanos) {
+        int checked = 0;
+        while (this.sweepIndex < this.sweepActions.size()) {
+            final Action cooldowns = this.sweepActions.get(this.sweepIndex);
+            final long now = System.nanoTime();
+
+            if (this.sweepIterator == null) {
+                this.sweepIterator = cooldowns.published.entrySet().iterator();
+            }
+
+            while (this.sweepIterator.hasNext()) {
+                final Map.Entry<UUID, Long> entry = this.sweepIterator.next();
+                if (entry.getValue() - now <= 0) {
+                    if (this.sweepingShared) {
+                        // Only remove the cooldown if another thread has not replaced it since
+                        cooldowns.shared.remove(entry.getKey(), entry.getValue());
+                    } else {
+                        // The primitive map may hold a newer cooldown than the published copy
+                        final long deadline = cooldowns.deadlines.getLong(entry.getKey());
+                        if (deadline != ABSENT && deadline - now <= 0) {
+                            cooldowns.remove(entry.getKey());
+                        }
+                    }
+                }
+                if (++checked % SWEEP_CHECK_INTERVAL == 0 && System.nanoTime() >= deadlineNanos) {
+                    return false;
+                }
+            }
+
+            if (!this.sweepingShared) {
+                this.sweepingShared = true;
+                this.sweepIterator = cooldowns.shared.entrySet().iterator();
+                continue;
+            }
+
+            this.resetSweep();
+            this.sweepIndex++;
+            if (System.nanoTime() >= deadlineNanos && this.sweepIndex < this.sweepActions.size()) {
+                return false;
+            }
+        }
+
+        this.sweepIndex = 0;
+        return true;
+    }
+
+    private void resetSweep() {
+        this.sweepingShared = false;
+        this.sweepIterator = null;
+    }
+
+    private boolean isMainThread() {
+        return this.plugin.getSchedulerAdapter().isSyncThread();
+    }
+
+    /**
+     * Cooldowns of one action.
+     */
+    private static final class Action {
+
+        // Confined to the main thread, the changes hold the latest deadline of every cooldown changed since the last publish
+        private final @NonNull Object2LongOpenHashMap<UUID> deadlines;
+        private final @NonNull Object2LongOpenHashMap<UUID> changes;
+
+        // Copy of the deadlines for other threads, only changed by the main thread when publishing
+        private final @NonNull Map<UUID, Long> published;
+
+        // Cooldowns set from other threads
+        private final @NonNull Map<UUID, Long> shared;
+
+        private Action() {
+            this.deadlines = new Object2LongOpenHashMap<>();
+            this.deadlines.defaultReturnValue(ABSENT);
+            this.changes = new Object2LongOpenHashMap<>();
+            this.changes.defaultReturnValue(ABSENT);
+            this.published = new ConcurrentHashMap<>();
+            this.shared = new ConcurrentHashMap<>();
+        }
+
+        private void put(@NonNull UUID uuid, long deadline) {
+            this.deadlines.put(uuid, deadline);
+            this.changes.put(uuid, deadline);
+        }
+
+        private void remove(@NonNull UUID uuid) {
+            if (this.deadlines.removeLong(uuid) != ABSENT) {
+                this.changes.put(uuid, ABSENT);
+            }
+        }
+
+        private void publish() {
+            for (Object2LongMap.Entry<UUID> change : Object2LongMaps.fastIterable(this.changes)) {
+                final long deadline = change.getLongValue();
+                if (deadline == ABSENT) {
+                    this.published.remove(change.getKey());
+                } else {
+                    this.published.put(change.getKey(), deadline);
+                }
+            }
+            this.changes.clear();
+        }
+    }
+}
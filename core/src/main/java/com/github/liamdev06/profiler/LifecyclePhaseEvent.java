@@ -0,0 +1,26 @@
+package com.github.liamdev06.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link LifecycleProfiler} for every measured phase of a plugin startup or shutdown.
+ */
+@Name("com.github.liamdev06.LifecyclePhase")
+@Label("Plugin Lifecycle Phase")
+@Category({ "LiamTools", "Lifecycle" })
+@Description("A measured phase of a plugin startup or shutdown.")
+@StackTrace(false)
+class LifecyclePhaseEvent extends Event {
+
+    @Label("Plugin")
+    String plugin;
+
+    @Label("Lifecycle")
+    String lifecycle;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Subject")
+    String subject;
+}
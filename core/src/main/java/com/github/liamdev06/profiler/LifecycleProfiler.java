@@ -0,0 +1,169 @@
+package com.github.liamdev06.profiler;
+
+import com.github.liamdev06.LPlugin;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records nanosecond timings of the phases of a plugin lifecycle, like the startup or shutdown.
+ * <p>
+ * Every measured phase is also emitted as a {@link LifecyclePhaseEvent JFR event}, which is only recorded when
+ * a flight recording is running. The collected timings can be written as a JSON report to compare between releases.
+ */
+public class LifecycleProfiler {
+
+    private final @NonNull String pluginIdentifier;
+    private final @NonNull String pluginVersion;
+    private final @NonNull String lifecycle;
+    private final @NonNull Instant startedAt;
+    private final long timeAtStart;
+    private final @NonNull List<Entry> entries;
+
+    /**
+     * Creates a new profiler and starts its clock.
+     *
+     * @param plugin The plugin whose lifecycle is profiled.
+     * @param lifecycle Name of the profiled lifecycle, for example {@code startup}.
+     */
+    public LifecycleProfiler(@NonNull LPlugin plugin, @NonNull String lifecycle) {
+        this.pluginIdentifier = plugin.getPluginIdentifier();
+        this.pluginVersion = plugin.getPluginMeta().getVersion();
+        this.lifecycle = lifecycle;
+        this.startedAt = Instant.now();
+        this.timeAtStart = System.nanoTime();
+        this.entries = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Measures a phase.
+     *
+     * @param phase Name of the phase.
+     * @param task The work performed in the phase.
+     */
+    public void measure(@NonNull String phase, @NonNull Runnable task) {
+        this.measure(phase, null, task);
+    }
+
+    /**
+     * Measures a phase for a specific subject, like a single class.
+     *
+     * @param phase Name of the phase.
+     * @param subject The subject of the phase, or {@code null} if the phase has no subject.
+     * @param task The work performed in the phase.
+     */
+    public void measure(@NonNull String phase, @Nullable String subject, @NonNull Runnable task) {
+        this.measure(phase, subject, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measures a phase for a specific subject and returns its result.
+     *
+     * @param phase Name of the phase.
+     * @param subject The subject of the phase, or {@code null} if the phase has no subject.
+     * @param task The work performed in the phase.
+     * @return The result of the task.
+     */
+    public <T> T measure(@NonNull String phase, @Nullable String subject, @NonNull Supplier<T> task) {
+        final LifecyclePhaseEvent event = new LifecyclePhaseEvent();
+        event.begin();
+        final long timeAtStart = System.nanoTime();
+
+        try {
+            return task.get();
+        } finally {
+            final long duration = System.nanoTime() - timeAtStart;
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = this.pluginIdentifier;
+                event.lifecycle = this.lifecycle;
+                event.phase = phase;
+                event.subject = subject;
+                event.commit();
+            }
+            this.entries.add(new Entry(phase, subject, timeAtStart - this.timeAtStart, duration));
+        }
+    }
+
+    /**
+     * @return Nanoseconds elapsed since this profiler was created.
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - this.timeAtStart;
+    }
+
+    /**
+     * @return Copy of all measured entries, in the order they finished.
+     */
+    public @NonNull List<Entry> getEntries() {
+        synchronized (this.entries) {
+            return new ArrayList<>(this.entries);
+        }
+    }
+
+    /**
+     * Writes all measured entries as a JSON report.
+     *
+     * @param file The file to write the report to. Missing parent directories are created.
+     * @throws IOException If the report could not be written.
+     */
+    public void writeReport(@NonNull File file) throws IOException {
+        final JsonObject report = new JsonObject();
+        report.addProperty("plugin", this.pluginIdentifier);
+        report.addProperty("version", this.pluginVersion);
+        report.addProperty("lifecycle", this.lifecycle);
+        report.addProperty("startedAt", this.startedAt.toString());
+        report.addProperty("totalNanos", this.getElapsedNanos());
+
+        final JsonArray phases = new JsonArray();
+        for (Entry entry : this.getEntries()) {
+            JsonObject phase = new JsonObject();
+            phase.addProperty("phase", entry.phase());
+            if (entry.subject() != null) {
+                phase.addProperty("subject", entry.subject());
+            }
+            phase.addProperty("offsetNanos", entry.offsetNanos());
+            phase.addProperty("durationNanos", entry.durationNanos());
+            phases.add(phase);
+        }
+        report.add("phases", phases);
+
+        final File parent = file.getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        Files.writeString(file.toPath(), new GsonBuilder().setPrettyPrinting().create().toJson(report), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Name of the profiled lifecycle.
+     */
+    public @NonNull String getLifecycle() {
+        return this.lifecycle;
+    }
+
+    /**
+     * A single measured phase.
+     *
+     * @param phase Name of the phase.
+     * @param subject The subject of the phase, or {@code null} if it has none.
+     * @param offsetNanos Nanoseconds between the start of the lifecycle and the start of the phase.
+     * @param durationNanos How long the phase took in nanoseconds.
+     */
+    public record Entry(@NonNull String phase, @Nullable String subject, long offsetNanos, long durationNanos) { }
+}
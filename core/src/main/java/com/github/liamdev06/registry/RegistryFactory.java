@@ -2,15 +2,29 @@ package com.github.liamdev06.registry;
 
 import com.github.liamdev06.LPlugin;
 import com.github.liamdev06.component.Component;
+import com.github.liamdev06.configuration.reload.ConfigReloadable;
+import com.github.liamdev06.profiler.LifecycleProfiler;
 import com.github.liamdev06.registry.component.AutoRegisteringFeature;
+import com.github.liamdev06.registry.index.RegistryIndex;
+import com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler;
+import com.github.liamdev06.utils.java.AnnotationCache;
+import com.github.liamdev06.utils.java.LoggerUtil;
 import com.github.liamdev06.utils.java.SinglePointInitiator;
+import com.github.liamdev06.utils.java.TimeFormatter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.*;
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -18,19 +32,68 @@ import java.util.stream.Collectors;
  */
 public class RegistryFactory extends SinglePointInitiator {
 
-    private final @NonNull Reflections reflections;
+    /**
+     * Annotations whose classes are present in the {@link RegistryIndex}, mapped to their index category.
+     */
+    private static final @NonNull Map<Class<? extends Annotation>, String> INDEXED_ANNOTATIONS = Map.of(
+            AutoRegister.class, RegistryIndex.AUTO_REGISTER,
+            AutoStartSchedulerHandler.class, RegistryIndex.AUTO_START_SCHEDULER_HANDLER
+    );
+
+    /**
+     * Supertypes whose implementations are present in the {@link RegistryIndex}, mapped to their index category.
+     */
+    private static final @NonNull Map<Class<?>, String> INDEXED_SUPERTYPES = Map.of(
+            ConfigReloadable.class, RegistryIndex.CONFIG_RELOADABLE,
+            Component.class, RegistryIndex.COMPONENT
+    );
+
+    private static final @NonNull AnnotationCache<AutoRegister> AUTO_REGISTER = new AnnotationCache<>(AutoRegister.class);
+
+    private final @NonNull Logger logger;
+    private final @NonNull List<String> scanPackages;
+    private final @Nullable RegistryIndex index;
+    private @Nullable Reflections reflections;
+    private volatile @Nullable Map<Class<?>, Set<Class<?>>> registryTypes;
     private final @NonNull Map<Class<?>, Object> registry;
-    private final @NonNull Object mainClassInstance;
+    private final @NonNull Map<Class<?>, Function<LPlugin, ?>> factories;
+    private final @NonNull LPlugin mainClassInstance;
     private final @NonNull Class<?> mainClass;
 
     private final @NonNull Set<AutoRegisteringFeature> autoRegisteringComponents;
 
-    public <T extends LPlugin> RegistryFactory(@NonNull Reflections reflections, @NonNull T mainClassInstance) {
-        this.reflections = reflections;
-        this.registry = new HashMap<>();
+    public <T extends LPlugin> RegistryFactory(@NonNull T mainClassInstance) {
+        this.logger = LoggerUtil.createLoggerWithIdentifier(mainClassInstance, this);
+        this.registry = new ConcurrentHashMap<>();
+        this.factories = new ConcurrentHashMap<>();
         this.mainClassInstance = mainClassInstance;
         this.mainClass = mainClassInstance.getClass();
         this.autoRegisteringComponents = new LinkedHashSet<>();
+        this.scanPackages = List.of("com.github.liamdev06", this.mainClass.getPackageName());
+        this.index = this.profile("registry-index", null, this::loadIndex);
+    }
+
+    /**
+     * Loads the compile-time {@link RegistryIndex} of the plugin.
+     *
+     * @return The loaded index, or {@code null} if no usable index is present and the classpath has to be scanned instead.
+     */
+    private @Nullable RegistryIndex loadIndex() {
+        final long timeAtStart = System.nanoTime();
+
+        try {
+            RegistryIndex index = RegistryIndex.load(this.mainClass.getClassLoader(), this.scanPackages);
+            if (index == null) {
+                this.logger.info("No registry index found, classes will be found by scanning the classpath.");
+                return null;
+            }
+
+            this.logger.info("Loaded registry index with {} entries in {}.", index.size(), TimeFormatter.formatNanosToMillis(System.nanoTime() - timeAtStart));
+            return index;
+        } catch (IOException exception) {
+            this.logger.warn("Could not read the registry index, classes will be found by scanning the classpath.", exception);
+            return null;
+        }
     }
 
     /**
@@ -64,28 +127,11 @@ public class RegistryFactory extends SinglePointInitiator {
             return null;
         }
 
-        final String displayName = clazz.getSimpleName() + " (" + clazz.getPackageName() + ")";
-
         try {
-            Constructor<?>[] constructors = clazz.getConstructors();
-            if (constructors.length == 0) {
-                throw new NoSuchMethodException("Class " + displayName + " has no public constructor.");
-            }
-            if (constructors.length > 1) {
-                throw new RuntimeException("Class " + displayName + " has multiple public constructors. This cannot be used with RegistryFactory.");
-            }
-
-            Object instance;
-            Constructor<?> constructor = constructors[0];
-
-            if (constructor.getParameterCount() == 0) {
-                instance = constructor.newInstance();
-            } else {
-                instance = clazz.getConstructor(this.mainClass).newInstance(this.mainClassInstance);
-            }
+            Object instance = this.profile("instantiate", clazz.getName(), () -> this.factoryFor(clazz).apply(this.mainClassInstance));
 
             if (this.registry.putIfAbsent(clazz, instance) != null) {
-                throw new UnsupportedOperationException("Duplicate class registration of class " + displayName + ".");
+                throw new UnsupportedOperationException("Duplicate class registration of class " + getDisplayName(clazz) + ".");
             }
             return instance;
         } catch (Exception exception) {
@@ -93,6 +139,99 @@ public class RegistryFactory extends SinglePointInitiator {
         }
     }
 
+    /**
+     * Gets the factory creating new instances of the provided class.
+     * <p>
+     * The factory is generated the first time it is requested for a class and then cached, so creating
+     * instances through it does not go through reflection. Instances created by the factory are not
+     * registered in this registry, use {@link #createInstance(Class)} for that.
+     * <p>
+     * The constructor of the provided class has to be either empty or only have the {@link #mainClassInstance} as a parameter.
+     *
+     * @param clazz The {@link Class} to get the instance factory of.
+     * @return Function creating a new instance of the class from the plugin instance.
+     * @throws IllegalArgumentException If the class does not have exactly one supported public constructor.
+     */
+    public <T> @NonNull Function<LPlugin, T> factoryFor(@NonNull Class<T> clazz) {
+        return (Function<LPlugin, T>) this.factories.computeIfAbsent(clazz, this::createFactory);
+    }
+
+    private @NonNull Function<LPlugin, ?> createFactory(@NonNull Class<?> clazz) {
+        final String displayName = getDisplayName(clazz);
+
+        Constructor<?>[] constructors = clazz.getConstructors();
+        if (constructors.length == 0) {
+            throw new IllegalArgumentException("Class " + displayName + " has no public constructor.");
+        }
+        if (constructors.length > 1) {
+            throw new IllegalArgumentException("Class " + displayName + " has multiple public constructors. This cannot be used with RegistryFactory.");
+        }
+
+        final Constructor<?> constructor = constructors[0];
+        if (constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0] != this.mainClass) {
+            throw new IllegalArgumentException("Class " + displayName + " must have an empty constructor or only take " + this.mainClass.getSimpleName() + " as a parameter.");
+        }
+        if (constructor.getParameterCount() > 1) {
+            throw new IllegalArgumentException("Class " + displayName + " has too many constructor parameters. This cannot be used with RegistryFactory.");
+        }
+
+        final MethodHandle handle;
+        final MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalArgumentException("Class " + displayName + " does not have an accessible constructor.", exception);
+        }
+
+        try {
+            if (constructor.getParameterCount() == 0) {
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "get",
+                        MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class),
+                        handle,
+                        MethodType.methodType(clazz)
+                );
+                Supplier<?> supplier = (Supplier<?>) site.getTarget().invoke();
+                return plugin -> supplier.get();
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(clazz, this.mainClass)
+            );
+            return (Function<LPlugin, ?>) site.getTarget().invoke();
+        } catch (Throwable throwable) {
+            // Fall back to invoking the constructor handle directly if a lambda could not be spun.
+            // The handle is adapted to one fixed type, so it is invoked exactly instead of through the varargs path
+            this.logger.warn("Could not create a lambda factory for class {}, falling back to invoking its constructor handle.", displayName, throwable);
+            final MethodHandle exact = constructor.getParameterCount() == 0
+                    ? MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class)), 0, LPlugin.class)
+                    : handle.asType(MethodType.methodType(Object.class, LPlugin.class));
+            return plugin -> invokeFactory(exact, displayName, plugin);
+        }
+    }
+
+    private static @NonNull Object invokeFactory(@NonNull MethodHandle handle, @NonNull String displayName, @NonNull LPlugin plugin) {
+        try {
+            return (Object) handle.invokeExact(plugin);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException("Could not create an instance of class " + displayName + ".", throwable);
+        }
+    }
+
+    private static @NonNull String getDisplayName(@NonNull Class<?> clazz) {
+        return clazz.getSimpleName() + " (" + clazz.getPackageName() + ")";
+    }
+
     /**
      * Checks if the provided parameter class with {@link AutoRegister} annotation present has
      * {@code shouldLog} set to {@code true} or {@code false}.
@@ -101,10 +240,8 @@ public class RegistryFactory extends SinglePointInitiator {
      * @return If the target class with {@link AutoRegister} present should log or not.
      */
     public boolean isLoggingEnabled(@NonNull Class<?> clazz) {
-        if (clazz.isAnnotationPresent(AutoRegister.class)) {
-            return clazz.getAnnotation(AutoRegister.class).shouldLog();
-        }
-        return false;
+        final AutoRegister autoRegister = AUTO_REGISTER.find(clazz);
+        return autoRegister != null && autoRegister.shouldLog();
     }
 
     /**
@@ -120,7 +257,27 @@ public class RegistryFactory extends SinglePointInitiator {
      * Executes the implementation of all {@link AutoRegisteringFeature} which instantiates all auto registering classes.
      */
     public void executeAllAutoRegistering() {
-        this.autoRegisteringComponents.forEach(component -> component.executeAutoRegistering(this));
+        this.getRegistryTypes();
+        this.autoRegisteringComponents.forEach(component -> this.profile("auto-registering", component.getClass().getName(), () -> {
+            component.executeAutoRegistering(this);
+            return null;
+        }));
+    }
+
+    /**
+     * Measures a phase with the {@link LifecycleProfiler} of the plugin, if a lifecycle is currently being profiled.
+     *
+     * @param phase Name of the phase.
+     * @param subject The subject of the phase, or {@code null} if the phase has no subject.
+     * @param task The work performed in the phase.
+     * @return The result of the task.
+     */
+    private <R> R profile(@NonNull String phase, @Nullable String subject, @NonNull Supplier<R> task) {
+        final LifecycleProfiler profiler = this.mainClassInstance.getProfiler();
+        if (profiler == null) {
+            return task.get();
+        }
+        return profiler.measure(phase, subject, task);
     }
 
     /**
@@ -132,18 +289,15 @@ public class RegistryFactory extends SinglePointInitiator {
     }
 
     /**
-     * Gets all classes annotated with {@link AutoRegister} and then
-     * filters out to only return the ones that matches the method parameter input class.
+     * Gets all classes annotated with {@link AutoRegister} that have the input class as one of their registry types.
+     * <p>
+     * The classes are resolved once for every registry type, so this is a constant time lookup.
      *
      * @param registerClass The type of auto registered classes to return.
-     * @return Set of classes that are marked with {@link AutoRegister} and has the input class type.
+     * @return Unmodifiable set of classes that are marked with {@link AutoRegister} and has the input class type.
      */
     public @NonNull Set<Class<?>> getClassesWithRegistryType(@NonNull Class<?> registerClass) {
-        return this.reflections.getTypesAnnotatedWith(AutoRegister.class)
-                .stream()
-                .filter(foundClass -> Arrays.stream(foundClass.getAnnotation(AutoRegister.class).value()).toList().contains(registerClass))
-                .filter(foundClass -> registerClass.isAssignableFrom(foundClass) || foundClass.equals(registerClass))
-                .collect(Collectors.toSet());
+        return this.getRegistryTypes().getOrDefault(registerClass, Collections.emptySet());
     }
 
     /**
@@ -155,13 +309,60 @@ public class RegistryFactory extends SinglePointInitiator {
      * @return Set of classes that are marked with {@link AutoRegister}, extends {@link Class<T>} and has the {@param type} type value.
      */
     public <T> @NonNull Set<Class<? extends T>> getClassesWithRegistryType(@NonNull Class<?> registerClass, @NonNull Class<T> extendClass) {
-        return this.getClassesWithRegistryType(registerClass)
-                .stream()
+        final Set<Class<?>> classes = this.getClassesWithRegistryType(registerClass);
+
+        // Every class of a registry type already extends the registry type itself
+        if (extendClass.isAssignableFrom(registerClass)) {
+            return (Set<Class<? extends T>>) (Set<?>) classes;
+        }
+
+        return classes.stream()
                 .filter(extendClass::isAssignableFrom)
                 .map(foundClass -> (Class<? extends T>) foundClass)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the multimap of every registry type to the {@link AutoRegister} classes registering for it.
+     * <p>
+     * The map is built from a single pass over all auto registered classes the first time it is needed.
+     * A class is only mapped to a registry type it also extends.
+     *
+     * @return Unmodifiable map of registry types to their auto registered classes.
+     */
+    private @NonNull Map<Class<?>, Set<Class<?>>> getRegistryTypes() {
+        Map<Class<?>, Set<Class<?>>> registryTypes = this.registryTypes;
+        if (registryTypes != null) {
+            return registryTypes;
+        }
+
+        synchronized (this) {
+            if (this.registryTypes != null) {
+                return this.registryTypes;
+            }
+
+            final Map<Class<?>, Set<Class<?>>> collected = new HashMap<>();
+            for (Class<?> foundClass : this.getClassesWithAnnotation(AutoRegister.class)) {
+                final AutoRegister autoRegister = AUTO_REGISTER.find(foundClass);
+                if (autoRegister == null) {
+                    continue;
+                }
+
+                for (Class<?> registerClass : autoRegister.value()) {
+                    if (registerClass.isAssignableFrom(foundClass)) {
+                        collected.computeIfAbsent(registerClass, key -> new LinkedHashSet<>()).add(foundClass);
+                    }
+                }
+            }
+
+            registryTypes = new HashMap<>();
+            for (Map.Entry<Class<?>, Set<Class<?>>> entry : collected.entrySet()) {
+                registryTypes.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+            }
+            return this.registryTypes = Collections.unmodifiableMap(registryTypes);
+        }
+    }
+
     /**
      * Gets all classes annotated with parameter {@code annotation}.
      *
@@ -169,7 +370,11 @@ public class RegistryFactory extends SinglePointInitiator {
      * @return Set of classes that are annotated with the parameter {@code annotation}.
      */
     public @NonNull Set<Class<?>> getClassesWithAnnotation(@NonNull Class<? extends Annotation> annotation) {
-        return this.reflections.getTypesAnnotatedWith(annotation);
+        final String category = INDEXED_ANNOTATIONS.get(annotation);
+        if (this.index != null && category != null) {
+            return this.index.getClasses(category);
+        }
+        return this.getReflections().getTypesAnnotatedWith(annotation);
     }
 
     /**
@@ -194,6 +399,36 @@ public class RegistryFactory extends SinglePointInitiator {
      * @return Set of classes that implement the {@code interfaceClass}.
      */
     public <T> @NonNull Set<Class<? extends T>> getClassesImplementing(@NonNull Class<T> interfaceClass) {
-        return this.reflections.getSubTypesOf(interfaceClass);
+        final String category = INDEXED_SUPERTYPES.get(interfaceClass);
+        if (this.index != null && category != null) {
+            return this.index.getClasses(category)
+                    .stream()
+                    .map(foundClass -> (Class<? extends T>) foundClass)
+                    .collect(Collectors.toSet());
+        }
+        return this.getReflections().getSubTypesOf(interfaceClass);
+    }
+
+    /**
+     * Gets the {@link Reflections} instance used when a class lookup is not covered by the {@link RegistryIndex}.
+     * <p>
+     * The classpath is only scanned the first time this is called.
+     *
+     * @return Reflections instance scanning the library and plugin packages.
+     */
+    public synchronized @NonNull Reflections getReflections() {
+        if (this.reflections == null) {
+            final long timeAtStart = System.nanoTime();
+            this.reflections = this.profile("classpath-scan", null, () -> new Reflections(ConfigurationBuilder.build().forPackages(this.scanPackages.toArray(String[]::new))));
+            this.logger.info("Scanned the classpath for registry classes in {}.", TimeFormatter.formatNanosToMillis(System.nanoTime() - timeAtStart));
+        }
+        return this.reflections;
+    }
+
+    /**
+     * @return If classes are looked up through a compile-time {@link RegistryIndex} instead of classpath scanning.
+     */
+    public boolean isIndexed() {
+        return this.index != null;
     }
 }
\ No newline at end of file
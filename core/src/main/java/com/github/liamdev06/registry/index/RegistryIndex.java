@@ -0,0 +1,166 @@
+package com.github.liamdev06.registry.index;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compile-time index of the classes that {@link com.github.liamdev06.registry.RegistryFactory} looks up on startup.
+ * <p>
+ * The index is written by {@link RegistryIndexProcessor} while the plugin is compiled and lets the registry
+ * resolve its classes without scanning the whole classpath. Every line of the index file has the
+ * format {@code category=binary.class.Name}, lines starting with {@code #} are ignored.
+ */
+public final class RegistryIndex {
+
+    /**
+     * Location of the index file inside the plugin JAR.
+     */
+    public static final @NonNull String LOCATION = "META-INF/liam-tools/registry.idx";
+
+    /**
+     * Category of classes annotated with {@link com.github.liamdev06.registry.AutoRegister}.
+     */
+    public static final @NonNull String AUTO_REGISTER = "auto-register";
+
+    /**
+     * Category of classes annotated with {@link com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler}.
+     */
+    public static final @NonNull String AUTO_START_SCHEDULER_HANDLER = "auto-start-scheduler-handler";
+
+    /**
+     * Category of classes implementing {@link com.github.liamdev06.configuration.reload.ConfigReloadable}.
+     */
+    public static final @NonNull String CONFIG_RELOADABLE = "config-reloadable";
+
+    /**
+     * Category of classes implementing {@link com.github.liamdev06.component.Component}.
+     */
+    public static final @NonNull String COMPONENT = "component";
+
+    private static final char SEPARATOR = '=';
+    private static final @NonNull String COMMENT_PREFIX = "#";
+
+    private final @NonNull Map<String, Set<Class<?>>> entries;
+    private final int size;
+
+    private RegistryIndex(@NonNull Map<String, Set<Class<?>>> entries) {
+        final Map<String, Set<Class<?>>> copy = new HashMap<>();
+        int size = 0;
+
+        for (Map.Entry<String, Set<Class<?>>> entry : entries.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+            size += entry.getValue().size();
+        }
+
+        this.entries = Collections.unmodifiableMap(copy);
+        this.size = size;
+    }
+
+    /**
+     * Reads all index files visible to the provided class loader.
+     * <p>
+     * Only classes located in one of the provided packages are included, which matches
+     * the packages that would otherwise have been scanned.
+     *
+     * @param classLoader The {@link ClassLoader} to find the index files and load the indexed classes with.
+     * @param packages The packages that indexed classes must be located in.
+     * @return The loaded {@link RegistryIndex}, or {@code null} if no index file is present.
+     * @throws IOException If an index file could not be read or references a class that does not exist.
+     */
+    public static @Nullable RegistryIndex load(@NonNull ClassLoader classLoader, @NonNull Collection<String> packages) throws IOException {
+        final Enumeration<URL> resources = classLoader.getResources(LOCATION);
+        if (!resources.hasMoreElements()) {
+            return null;
+        }
+
+        final Map<String, Set<Class<?>>> entries = new HashMap<>();
+        while (resources.hasMoreElements()) {
+            final URLConnection connection = resources.nextElement().openConnection();
+            connection.setUseCaches(false);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] entry = parseLine(line);
+                    if (entry == null || !isInPackages(entry[1], packages)) {
+                        continue;
+                    }
+
+                    try {
+                        Class<?> clazz = Class.forName(entry[1], false, classLoader);
+                        entries.computeIfAbsent(entry[0], category -> new LinkedHashSet<>()).add(clazz);
+                    } catch (ClassNotFoundException exception) {
+                        throw new IOException("Registry index references the class " + entry[1] + " which could not be found.", exception);
+                    }
+                }
+            }
+        }
+
+        return new RegistryIndex(entries);
+    }
+
+    /**
+     * Parses a single line of an index file.
+     *
+     * @param line The line to parse.
+     * @return Array with the category at index 0 and the binary class name at index 1,
+     *         or {@code null} if the line is empty, a comment or malformed.
+     */
+    static @Nullable String[] parseLine(@NonNull String line) {
+        final String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith(COMMENT_PREFIX)) {
+            return null;
+        }
+
+        final int separator = trimmed.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == trimmed.length() - 1) {
+            return null;
+        }
+        return new String[] { trimmed.substring(0, separator), trimmed.substring(separator + 1) };
+    }
+
+    /**
+     * Formats a single line of an index file.
+     *
+     * @param category The category of the entry.
+     * @param className The binary name of the indexed class.
+     * @return The formatted line.
+     */
+    static @NonNull String formatLine(@NonNull String category, @NonNull String className) {
+        return category + SEPARATOR + className;
+    }
+
+    private static boolean isInPackages(@NonNull String className, @NonNull Collection<String> packages) {
+        for (String packageName : packages) {
+            if (className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets all indexed classes in a category.
+     *
+     * @param category The category to get the classes of.
+     * @return Unmodifiable set of the indexed classes, empty if the category has no entries.
+     */
+    public @NonNull Set<Class<?>> getClasses(@NonNull String category) {
+        return this.entries.getOrDefault(category, Collections.emptySet());
+    }
+
+    /**
+     * @return Total amount of entries across all categories in this index.
+     */
+    public int size() {
+        return this.size;
+    }
+}
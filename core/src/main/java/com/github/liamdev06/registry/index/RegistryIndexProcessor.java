@@ -0,0 +1,160 @@
+package com.github.liamdev06.registry.index;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes the {@link RegistryIndex} of a plugin at compile time.
+ * <p>
+ * The processor is registered as a service in this module, so it runs automatically for any plugin
+ * compiling against it. If the plugin configures {@code annotationProcessorPaths} in the compiler plugin,
+ * this module must be added to those paths as well. When no index is present at runtime, the
+ * {@link com.github.liamdev06.registry.RegistryFactory} falls back to scanning the classpath.
+ */
+@SupportedAnnotationTypes("*")
+public class RegistryIndexProcessor extends AbstractProcessor {
+
+    private static final @NonNull String AUTO_REGISTER = "com.github.liamdev06.registry.AutoRegister";
+    private static final @NonNull String AUTO_START_SCHEDULER_HANDLER = "com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler";
+    private static final @NonNull String CONFIG_RELOADABLE = "com.github.liamdev06.configuration.reload.ConfigReloadable";
+    private static final @NonNull String COMPONENT = "com.github.liamdev06.component.Component";
+
+    private final @NonNull Set<String> entries = new TreeSet<>();
+    private final @NonNull Set<String> processedClasses = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+    private @Nullable TypeElement configReloadableType;
+    private @Nullable TypeElement componentType;
+
+    @Override
+    public synchronized void init(@NonNull ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.configReloadableType = this.elements.getTypeElement(CONFIG_RELOADABLE);
+        this.componentType = this.elements.getTypeElement(COMPONENT);
+    }
+
+    @Override
+    public @NonNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NonNull Set<? extends TypeElement> annotations, @NonNull RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            this.writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnvironment.getRootElements()) {
+            this.scan(element);
+        }
+        return false;
+    }
+
+    /**
+     * Indexes the provided element if it is a class and recursively visits its nested classes.
+     *
+     * @param element The element to scan.
+     */
+    private void scan(@NonNull Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+
+        if (type.getKind() == ElementKind.CLASS) {
+            this.index(type);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            this.scan(enclosed);
+        }
+    }
+
+    private void index(@NonNull TypeElement type) {
+        final String className = this.elements.getBinaryName(type).toString();
+        this.processedClasses.add(className);
+
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            final String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (AUTO_REGISTER.equals(annotation)) {
+                this.entries.add(RegistryIndex.formatLine(RegistryIndex.AUTO_REGISTER, className));
+            } else if (AUTO_START_SCHEDULER_HANDLER.equals(annotation)) {
+                this.entries.add(RegistryIndex.formatLine(RegistryIndex.AUTO_START_SCHEDULER_HANDLER, className));
+            }
+        }
+
+        if (this.isSubtype(type, this.configReloadableType)) {
+            this.entries.add(RegistryIndex.formatLine(RegistryIndex.CONFIG_RELOADABLE, className));
+        }
+        if (this.isSubtype(type, this.componentType)) {
+            this.entries.add(RegistryIndex.formatLine(RegistryIndex.COMPONENT, className));
+        }
+    }
+
+    private boolean isSubtype(@NonNull TypeElement type, @Nullable TypeElement supertype) {
+        if (supertype == null) {
+            return false;
+        }
+        return this.types.isAssignable(this.types.erasure(type.asType()), this.types.erasure(supertype.asType()));
+    }
+
+    /**
+     * Writes the collected entries to {@link RegistryIndex#LOCATION}.
+     * <p>
+     * Entries from a previous index are kept for classes that were not part of this compilation
+     * but still exist, so incremental builds do not lose entries of unchanged classes.
+     */
+    private void writeIndex() {
+        final Filer filer = this.processingEnv.getFiler();
+        this.mergePreviousIndex(filer);
+
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", RegistryIndex.LOCATION);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8))) {
+                writer.write("# Generated by " + this.getClass().getSimpleName() + ", do not edit.\n");
+                for (String entry : this.entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write registry index: " + exception.getMessage());
+        }
+    }
+
+    private void mergePreviousIndex(@NonNull Filer filer) {
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", RegistryIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(previous.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] entry = RegistryIndex.parseLine(line);
+                    if (entry == null || this.processedClasses.contains(entry[1])) {
+                        continue;
+                    }
+                    if (this.elements.getTypeElement(entry[1].replace('$', '.')) != null) {
+                        this.entries.add(RegistryIndex.formatLine(entry[0], entry[1]));
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // No previous index exists, this is a clean build
+        }
+    }
+}
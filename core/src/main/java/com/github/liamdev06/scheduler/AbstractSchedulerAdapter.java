@@ -2,30 +2,82 @@ package com.github.liamdev06.scheduler;
 
 import com.github.liamdev06.LPlugin;
 import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.executor.VirtualThreadDiagnostics;
+import com.github.liamdev06.scheduler.executor.VirtualThreads;
 import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.load.TaskPriority;
+import com.github.liamdev06.scheduler.load.TickMonitor;
+import com.github.liamdev06.scheduler.metrics.PoolGauge;
+import com.github.liamdev06.scheduler.metrics.SchedulerMetrics;
+import com.github.liamdev06.scheduler.metrics.TrackedSchedulerTask;
+import com.github.liamdev06.scheduler.repeat.FixedDelayTask;
+import com.github.liamdev06.scheduler.repeat.OverrunGuard;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
+import com.github.liamdev06.scheduler.wheel.HashedTimingWheel;
 import com.github.liamdev06.utils.java.LoggerUtil;
 import com.github.liamdev06.utils.java.SinglePointInitiator;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation of {@link SchedulerAdapter} using {@link ScheduledExecutorService}. Handles the underlying scheduler and worker instances.
+ * <p>
+ * When {@link SchedulerSettings.TimerEngine#TIMING_WHEEL} is configured, delayed and repeating asynchronous tasks are
+ * scheduled on a {@link HashedTimingWheel} instead of the {@link ScheduledThreadPoolExecutor}. When
+ * {@link SchedulerSettings.AsyncMode#VIRTUAL_THREADS} is configured and the server runs on Java 21 or newer,
+ * asynchronous tasks run on virtual threads instead of the {@link ForkJoinPool}.
+ * <p>
+ * The {@link #compute()} and {@link #io()} executors are separate bounded pools, each with its own queue limit,
+ * rejection policy and thread names, configured through {@link SchedulerSettings#getComputeSettings()} and
+ * {@link SchedulerSettings#getIoSettings()}.
+ * <p>
+ * Delayed and repeating tasks are returned as a {@link TrackedSchedulerTask}, which records the scheduling lag and
+ * execution time of every run to the {@link #getMetrics() metrics} of the label in its {@link TaskOptions}.
+ * The saturation of the pools is reported by {@link #getPoolGauges()}.
+ * <p>
+ * Asynchronous repeating tasks follow the {@link RepeatPolicy} in their {@link TaskOptions} when a run takes longer than the interval.
+ * Repeating tasks with a {@link TaskPriority} below normal are shed by the {@link #getTickMonitor() tick monitor},
+ * if the implementation has one, while the server is over its tick budget.
  * @see SchedulerAdapter for Javadocs on the implemented scheduler methods.
  */
 public abstract class AbstractSchedulerAdapter extends SinglePointInitiator implements SchedulerAdapter {
 
     private static final @NonNull String WORKER_THREAD_PREFIX =  "liam-tools-worker-";
     private static final @NonNull String SCHEDULER_THREAD_NAME = "liam-tools-scheduler";
+    private static final @NonNull String TIMING_WHEEL_THREAD_NAME = "liam-tools-timing-wheel";
+    private static final @NonNull String VIRTUAL_THREAD_PREFIX = "liam-tools-virtual-";
+    private static final @NonNull String COMPUTE_THREAD_PREFIX = "liam-tools-compute-";
+    private static final @NonNull String IO_THREAD_PREFIX = "liam-tools-io-";
 
     private final @NonNull Logger logger;
+    private final @NonNull ExceptionHandler exceptionHandler;
+    private final @NonNull SchedulerSettings settings;
+    private final @NonNull SchedulerMetrics metrics;
     private final @NonNull ScheduledThreadPoolExecutor scheduler;
+    private final @Nullable HashedTimingWheel timingWheel;
     private final @NonNull ForkJoinPool worker;
+    private final @Nullable ExecutorService virtualExecutor;
+    private final @Nullable VirtualThreadDiagnostics virtualThreadDiagnostics;
+    private final @NonNull Executor asyncExecutor;
+    private final @NonNull ThreadPoolExecutor computePool;
+    private final @NonNull ThreadPoolExecutor ioPool;
 
     public AbstractSchedulerAdapter(@NonNull LPlugin plugin) {
+        this(plugin, SchedulerSettings.load(plugin));
+    }
+
+    public AbstractSchedulerAdapter(@NonNull LPlugin plugin, @NonNull SchedulerSettings settings) {
         this.logger = LoggerUtil.createLoggerWithIdentifier(plugin, this);
+        this.exceptionHandler = new ExceptionHandler(this.logger);
+        this.settings = settings;
+        this.metrics = new SchedulerMetrics(settings.isMetrics());
         this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
             Thread thread = Executors.defaultThreadFactory()
                     .newThread(runnable);
@@ -34,30 +86,130 @@ public abstract class AbstractSchedulerAdapter extends SinglePointInitiator impl
         });
         this.scheduler.setRemoveOnCancelPolicy(true);
         this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.timingWheel = settings.getTimerEngine() == SchedulerSettings.TimerEngine.TIMING_WHEEL
+                ? new HashedTimingWheel(TIMING_WHEEL_THREAD_NAME, settings.getWheelTickMillis(), TimeUnit.MILLISECONDS, settings.getWheelSize(), this.logger)
+                : null;
         this.worker = new ForkJoinPool(
-                16,
+                settings.getWorkerThreads(),
                 new WorkerThreadFactory(),
-                new ExceptionHandler(this.logger),
-                false
+                this.exceptionHandler,
+                true
         );
+        this.computePool = settings.getComputeSettings().createPool(this.createThreadFactory(COMPUTE_THREAD_PREFIX));
+        this.ioPool = settings.getIoSettings().createPool(this.createThreadFactory(IO_THREAD_PREFIX));
+
+        this.virtualExecutor = settings.getAsyncMode() == SchedulerSettings.AsyncMode.VIRTUAL_THREADS
+                ? VirtualThreads.newVirtualThreadExecutor(VIRTUAL_THREAD_PREFIX)
+                : null;
+        if (this.virtualExecutor != null) {
+            final ExecutorService virtualExecutor = this.virtualExecutor;
+            this.asyncExecutor = runnable -> virtualExecutor.execute(() -> {
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    this.logger.error("An exception was caught in thread {}.", Thread.currentThread().getName(), throwable);
+                }
+            });
+            this.virtualThreadDiagnostics = new VirtualThreadDiagnostics(this.logger);
+            this.virtualThreadDiagnostics.start(Duration.ofMillis(settings.getPinnedThresholdMillis()));
+            this.logger.info("Asynchronous tasks run on virtual threads.");
+        } else {
+            if (settings.getAsyncMode() == SchedulerSettings.AsyncMode.VIRTUAL_THREADS) {
+                this.logger.warn("Virtual threads require Java 21 or newer, asynchronous tasks run on the worker pool instead.");
+            }
+            this.asyncExecutor = this.worker;
+            this.virtualThreadDiagnostics = null;
+        }
     }
 
     @Override
     public @NonNull SchedulerTask asyncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
-        ScheduledFuture<?> future = this.scheduler.schedule(() -> this.worker.execute(task), delay, unit);
+        return this.asyncLater(task, delay, unit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask asyncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final TrackedSchedulerTask tracked = this.track(task, options, unit.toNanos(delay), 0);
+        return tracked.bind(this.scheduleOnce(() -> this.asyncExecutor.execute(tracked), delay, unit));
+    }
+
+    private @NonNull SchedulerTask scheduleOnce(@NonNull Runnable trigger, long delay, @NonNull TimeUnit unit) {
+        if (this.timingWheel != null) {
+            return this.timingWheel.schedule(trigger, delay, unit);
+        }
+
+        ScheduledFuture<?> future = this.scheduler.schedule(trigger, delay, unit);
         return () -> future.cancel(false);
     }
 
     @Override
     public @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit) {
-        ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(() -> this.worker.execute(task), initialDelay, interval, unit);
-        return () -> future.cancel(false);
+        return this.asyncRepeating(task, initialDelay, interval, unit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final RepeatPolicy policy = options.getRepeatPolicy();
+        if (policy == RepeatPolicy.FIXED_DELAY) {
+            final TrackedSchedulerTask tracked = this.track(task, options, unit.toNanos(initialDelay), unit.toNanos(interval), true);
+            return tracked.bind(new FixedDelayTask(tracked, this.asyncExecutor, this::scheduleOnce, unit.toNanos(interval)).start(unit.toNanos(initialDelay)));
+        }
+
+        final TrackedSchedulerTask tracked = this.track(task, options, unit.toNanos(initialDelay), unit.toNanos(interval));
+        final Runnable trigger = policy == RepeatPolicy.ALLOW_OVERLAP
+                ? () -> this.asyncExecutor.execute(tracked)
+                : new OverrunGuard(tracked, this.asyncExecutor, policy);
+        if (this.timingWheel != null) {
+            return tracked.bind(this.timingWheel.scheduleAtFixedRate(trigger, initialDelay, interval, unit));
+        }
+
+        ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(trigger, initialDelay, interval, unit);
+        return tracked.bind(() -> future.cancel(false));
+    }
+
+    /**
+     * Wraps a task in a {@link TrackedSchedulerTask} recording to the metrics of the label in the options.
+     *
+     * @param task The task to wrap.
+     * @param options The {@link TaskOptions} of the task.
+     * @param delayNanos The delay before the first run in nanoseconds.
+     * @param intervalNanos The interval between the runs in nanoseconds, or {@code 0} if the task runs once.
+     * @return The wrapped task, which must be {@link TrackedSchedulerTask#bind(SchedulerTask) bound} once scheduled.
+     */
+    protected @NonNull TrackedSchedulerTask track(@NonNull Runnable task, @NonNull TaskOptions options, long delayNanos, long intervalNanos) {
+        return this.track(task, options, delayNanos, intervalNanos, false);
+    }
+
+    private @NonNull TrackedSchedulerTask track(@NonNull Runnable task, @NonNull TaskOptions options, long delayNanos, long intervalNanos, boolean fixedDelay) {
+        final TrackedSchedulerTask tracked = new TrackedSchedulerTask(task, this.metrics.getOrCreate(options.getLabel()), delayNanos, intervalNanos, fixedDelay);
+        final TickMonitor monitor = this.getTickMonitor();
+        if (monitor != null && intervalNanos > 0 && options.getPriority() != TaskPriority.NORMAL) {
+            tracked.shedWith(monitor, options.getPriority());
+        }
+        return tracked;
+    }
+
+    /**
+     * @return The monitor shedding low priority repeating tasks, or {@code null} if this implementation does not shed tasks.
+     */
+    public @Nullable TickMonitor getTickMonitor() {
+        return null;
     }
 
     @Override
     public void shutdownScheduler() {
         this.scheduler.shutdown();
 
+        if (this.timingWheel != null) {
+            try {
+                if (!this.timingWheel.stop(1, TimeUnit.MINUTES)) {
+                    this.logger.error("Timed out! Was waiting for thread '" + TIMING_WHEEL_THREAD_NAME + "' to terminate.");
+                }
+            } catch (InterruptedException exception) {
+                this.logger.error("Interrupted! Was waiting for thread '" + TIMING_WHEEL_THREAD_NAME + "' to terminate.", exception);
+            }
+        }
+
         try {
             if (!this.scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
                 this.logger.error("Timed out! Was waiting for thread '" + SCHEDULER_THREAD_NAME + "' to terminate.");
@@ -69,11 +221,24 @@ public abstract class AbstractSchedulerAdapter extends SinglePointInitiator impl
 
     @Override
     public void shutdownExecutor() {
-        this.worker.shutdown();
+        this.awaitShutdown(this.worker, WORKER_THREAD_PREFIX);
+        this.awaitShutdown(this.computePool, COMPUTE_THREAD_PREFIX);
+        this.awaitShutdown(this.ioPool, IO_THREAD_PREFIX);
+
+        if (this.virtualExecutor != null) {
+            this.awaitShutdown(this.virtualExecutor, VIRTUAL_THREAD_PREFIX);
+        }
+        if (this.virtualThreadDiagnostics != null) {
+            this.virtualThreadDiagnostics.close();
+        }
+    }
+
+    private void awaitShutdown(@NonNull ExecutorService executor, @NonNull String threadPrefix) {
+        executor.shutdown();
 
-        final String formattedWorkerName = WORKER_THREAD_PREFIX.substring(0, WORKER_THREAD_PREFIX.length() - 1);
+        final String formattedWorkerName = threadPrefix.substring(0, threadPrefix.length() - 1);
         try {
-            if (!this.worker.awaitTermination(1, TimeUnit.MINUTES)) {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
                 this.logger.error("Timed out! Was waiting for worker '" + formattedWorkerName + "' to terminate.");
             }
         } catch (InterruptedException exception) {
@@ -83,7 +248,71 @@ public abstract class AbstractSchedulerAdapter extends SinglePointInitiator impl
 
     @Override
     public @NonNull Executor async() {
-        return this.worker;
+        return this.asyncExecutor;
+    }
+
+    @Override
+    public Thread.@NonNull UncaughtExceptionHandler exceptionHandler() {
+        return this.exceptionHandler;
+    }
+
+    @Override
+    public @NonNull Executor compute() {
+        return this.computePool;
+    }
+
+    @Override
+    public @NonNull Executor io() {
+        return this.ioPool;
+    }
+
+    private @NonNull ThreadFactory createThreadFactory(@NonNull String threadPrefix) {
+        final AtomicInteger count = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(this.exceptionHandler);
+            return thread;
+        };
+    }
+
+    /**
+     * Takes a snapshot of how saturated the pools of this adapter are.
+     *
+     * @return A {@link PoolGauge} of every pool.
+     */
+    public @NonNull List<PoolGauge> getPoolGauges() {
+        final List<PoolGauge> gauges = new ArrayList<>();
+        gauges.add(new PoolGauge(
+                WORKER_THREAD_PREFIX.substring(0, WORKER_THREAD_PREFIX.length() - 1),
+                this.worker.getPoolSize(),
+                this.worker.getActiveThreadCount(),
+                this.worker.getQueuedSubmissionCount() + this.worker.getQueuedTaskCount(),
+                -1
+        ));
+        gauges.add(this.createGauge(COMPUTE_THREAD_PREFIX, this.computePool));
+        gauges.add(this.createGauge(IO_THREAD_PREFIX, this.ioPool));
+        gauges.add(this.createGauge(SCHEDULER_THREAD_NAME + "-", this.scheduler));
+        return gauges;
+    }
+
+    private @NonNull PoolGauge createGauge(@NonNull String threadPrefix, @NonNull ThreadPoolExecutor pool) {
+        final BlockingQueue<Runnable> queue = pool.getQueue();
+        final int remainingCapacity = queue.remainingCapacity();
+        return new PoolGauge(
+                threadPrefix.substring(0, threadPrefix.length() - 1),
+                pool.getPoolSize(),
+                pool.getActiveCount(),
+                queue.size(),
+                remainingCapacity == Integer.MAX_VALUE ? -1 : remainingCapacity
+        );
+    }
+
+    /**
+     * @return The metrics of the delayed and repeating tasks of this adapter by label.
+     */
+    public @NonNull SchedulerMetrics getMetrics() {
+        return this.metrics;
     }
 
     /**
@@ -93,6 +322,41 @@ public abstract class AbstractSchedulerAdapter extends SinglePointInitiator impl
         return this.scheduler;
     }
 
+    /**
+     * @return Instance of the {@link HashedTimingWheel} used in this implementation, or {@code null} if the timing wheel is not enabled.
+     */
+    public @Nullable HashedTimingWheel getTimingWheel() {
+        return this.timingWheel;
+    }
+
+    /**
+     * @return The virtual thread diagnostics, or {@code null} if asynchronous tasks do not run on virtual threads.
+     */
+    public @Nullable VirtualThreadDiagnostics getVirtualThreadDiagnostics() {
+        return this.virtualThreadDiagnostics;
+    }
+
+    /**
+     * @return The settings this adapter was created with.
+     */
+    public @NonNull SchedulerSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * @return Instance of the {@link ThreadPoolExecutor} behind {@link #compute()}.
+     */
+    public @NonNull ThreadPoolExecutor getComputePool() {
+        return this.computePool;
+    }
+
+    /**
+     * @return Instance of the {@link ThreadPoolExecutor} behind {@link #io()}.
+     */
+    public @NonNull ThreadPoolExecutor getIoPool() {
+        return this.ioPool;
+    }
+
     /**
      * @return Instance of the {@link ForkJoinPool} used in this implementation.
      */
@@ -3,52 +3,270 @@ package com.github.liamdev06.scheduler;
 import com.github.liamdev06.LPlugin;
 import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
 import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.load.TickMonitor;
+import com.github.liamdev06.scheduler.metrics.PoolGauge;
+import com.github.liamdev06.scheduler.metrics.TrackedSchedulerTask;
+import com.github.liamdev06.scheduler.stall.StallDetector;
+import com.github.liamdev06.scheduler.tick.BudgetedTask;
+import com.github.liamdev06.scheduler.tick.MainThreadQueue;
+import com.github.liamdev06.scheduler.tick.TickDriver;
 import com.github.liamdev06.utils.bukkit.TickUtil;
+import com.github.liamdev06.utils.java.LoggerUtil;
 import org.bukkit.Server;
 import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Bukkit Implementation of {@link SchedulerAdapter} using {@link BukkitScheduler}.
  * <p>
+ * Unless disabled with {@link SchedulerSettings#isTickDriver()}, synchronous repeating tasks are all run by one
+ * {@link TickDriver} ticked by a single Bukkit task, instead of creating a Bukkit task for every repeating task.
+ * Likewise, unless disabled with {@link SchedulerSettings#isMainThreadQueue()}, tasks handed to {@link #sync()} are
+ * queued in a {@link MainThreadQueue} that is drained every tick under a time budget.
+ * Unless disabled with {@link SchedulerSettings#isLoadShedding()}, a {@link TickMonitor} samples the tick times of the
+ * server every second to shed low priority repeating tasks. When enabled with {@link SchedulerSettings#isStallDetector()},
+ * delayed and repeating synchronous tasks are watched by a {@link StallDetector} reporting the tasks stalling the main thread.
+ * <p>
  * @see SchedulerAdapter for Javadocs on the implemented scheduler methods.
  */
 public class BukkitSchedulerAdapter extends AbstractSchedulerAdapter implements SchedulerAdapter {
 
+    private static final long AWAIT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final @NonNull Executor sync;
     private final @NonNull BukkitScheduler bukkitScheduler;
     private final @NonNull LPlugin plugin;
+    private final @Nullable TickDriver tickDriver;
+    private final @Nullable BukkitTask tickDriverTask;
+    private final @Nullable MainThreadQueue mainThreadQueue;
+    private final @Nullable BukkitTask mainThreadQueueTask;
+    private final @Nullable TickMonitor tickMonitor;
+    private final @Nullable BukkitTask tickMonitorTask;
+    private final @Nullable StallDetector stallDetector;
 
     public BukkitSchedulerAdapter(@NonNull LPlugin plugin) {
-        super(plugin);
+        this(plugin, SchedulerSettings.load(plugin));
+    }
+
+    public BukkitSchedulerAdapter(@NonNull LPlugin plugin, @NonNull SchedulerSettings settings) {
+        super(plugin, settings);
         final Server server = plugin.getServer();
-        this.sync = runnable -> server.getScheduler().runTask(plugin, runnable);
         this.bukkitScheduler = server.getScheduler();
         this.plugin = plugin;
+
+        if (settings.isMainThreadQueue()) {
+            this.mainThreadQueue = new MainThreadQueue(LoggerUtil.createLoggerWithIdentifier(plugin, "MainThreadQueue"), settings.getMainThreadQueueBudgetMillis(), TimeUnit.MILLISECONDS);
+            this.mainThreadQueueTask = this.bukkitScheduler.runTaskTimer(plugin, this.mainThreadQueue, 1, 1);
+            this.sync = this.mainThreadQueue;
+        } else {
+            this.mainThreadQueue = null;
+            this.mainThreadQueueTask = null;
+            this.sync = runnable -> server.getScheduler().runTask(plugin, runnable);
+        }
+
+        if (settings.isLoadShedding()) {
+            this.tickMonitor = new TickMonitor(server, LoggerUtil.createLoggerWithIdentifier(plugin, "TickMonitor"), settings);
+            this.tickMonitorTask = this.bukkitScheduler.runTaskTimer(plugin, this.tickMonitor, 20, 20);
+        } else {
+            this.tickMonitor = null;
+            this.tickMonitorTask = null;
+        }
+
+        if (settings.isStallDetector()) {
+            this.stallDetector = new StallDetector(
+                    LoggerUtil.createLoggerWithIdentifier(plugin, "StallDetector"),
+                    Thread.currentThread(),
+                    settings.getStallThresholdMillis(),
+                    settings.getStallSampleIntervalMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+            this.stallDetector.start();
+        } else {
+            this.stallDetector = null;
+        }
+
+        if (settings.isTickDriver()) {
+            this.tickDriver = new TickDriver(LoggerUtil.createLoggerWithIdentifier(plugin, "TickDriver"));
+            this.tickDriverTask = this.bukkitScheduler.runTaskTimer(plugin, this.tickDriver, 1, 1);
+        } else {
+            this.tickDriver = null;
+            this.tickDriverTask = null;
+        }
     }
 
     @Override
     public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.syncLater(task, delay, unit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final long delayTicks = TickUtil.convertToTicks(delay, unit);
+        final TrackedSchedulerTask tracked = this.track(task, options, ticksToNanos(delayTicks), 0);
         int taskId = this.bukkitScheduler.runTaskLater(
                 this.plugin,
-                task,
-                TickUtil.convertToTicks(delay, unit)
+                this.watch(options, tracked),
+                delayTicks
         ).getTaskId();
-        return () -> this.bukkitScheduler.cancelTask(taskId);
+        return tracked.bind(() -> this.bukkitScheduler.cancelTask(taskId));
     }
 
     @Override
     public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit timeUnit) {
+        return this.syncRepeating(task, initialDelay, interval, timeUnit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit timeUnit, @NonNull TaskOptions options) {
+        final long initialDelayTicks = TickUtil.convertToTicks(initialDelay, timeUnit);
+        final long intervalTicks = TickUtil.convertToTicks(interval, timeUnit);
+        final TrackedSchedulerTask tracked = this.track(task, options, ticksToNanos(initialDelayTicks), ticksToNanos(intervalTicks));
+        if (this.tickDriver != null) {
+            return tracked.bind(this.tickDriver.schedule(this.watch(options, tracked), initialDelayTicks, intervalTicks));
+        }
+
         int taskId = this.bukkitScheduler.runTaskTimer(
                 this.plugin,
-                task,
-                TickUtil.convertToTicks(initialDelay, timeUnit),
-                TickUtil.convertToTicks(interval, timeUnit)
+                this.watch(options, tracked),
+                initialDelayTicks,
+                intervalTicks
         ).getTaskId();
-        return () -> this.bukkitScheduler.cancelTask(taskId);
+        return tracked.bind(() -> this.bukkitScheduler.cancelTask(taskId));
+    }
+
+    private @NonNull Runnable watch(@NonNull TaskOptions options, @NonNull Runnable task) {
+        return this.stallDetector != null ? this.stallDetector.wrap(options.getLabel(), task) : task;
+    }
+
+    private static long ticksToNanos(long ticks) {
+        return TimeUnit.MILLISECONDS.toNanos(ticks * TickUtil.TICK_IN_MILLIS);
+    }
+
+    /**
+     * Executes the given {@link BudgetedTask task} repeatedly synchronously with a given interval and a time budget per tick.
+     * <p>
+     * A run of the task that does not finish within the budget continues in the next tick.
+     * If the tick driver is disabled, the budget is ignored and every run is finished within one tick.
+     *
+     * @param task The task to perform.
+     * @param initialDelay The initial delay before the repeating sequence starts.
+     * @param interval The interval between the start of each repeating sequence.
+     * @param unit The {@link TimeUnit} for the {@param initialDelay} and {@param interval}.
+     * @param budget The time the task may spend per tick.
+     * @param budgetUnit The {@link TimeUnit} for the {@param budget}.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    public @NonNull SchedulerTask syncRepeating(@NonNull BudgetedTask task, long initialDelay, long interval, @NonNull TimeUnit unit, long budget, @NonNull TimeUnit budgetUnit) {
+        final long budgetNanos = budgetUnit.toNanos(budget);
+        if (this.tickDriver != null) {
+            return this.tickDriver.schedule(task, TickUtil.convertToTicks(initialDelay, unit), TickUtil.convertToTicks(interval, unit), budgetNanos);
+        }
+
+        // Without the tick driver there is no next tick to continue in, so the run gets an unbounded deadline.
+        // Looping on a fixed deadline would spin forever on a task that checks it before doing any work
+        return this.syncRepeating(() -> task.run(Long.MAX_VALUE), initialDelay, interval, unit);
+    }
+
+    @Override
+    public void shutdownScheduler() {
+        if (this.tickMonitorTask != null) {
+            this.tickMonitorTask.cancel();
+        }
+        if (this.stallDetector != null) {
+            this.stallDetector.close();
+        }
+        if (this.tickDriverTask != null) {
+            this.tickDriverTask.cancel();
+        }
+        if (this.tickDriver != null) {
+            this.tickDriver.clear();
+        }
+        if (this.mainThreadQueueTask != null) {
+            this.mainThreadQueueTask.cancel();
+        }
+        super.shutdownScheduler();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link MainThreadQueue} is shut down after the executors have terminated, so the tasks that asynchronous work
+     * handed to the main thread while finishing are still run.
+     */
+    @Override
+    public void shutdownExecutor() {
+        super.shutdownExecutor();
+        if (this.mainThreadQueue != null) {
+            this.mainThreadQueue.shutdown(this::isSyncThread);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * On the main thread, the {@link MainThreadQueue} is drained while waiting, as no tick runs to drain it until the
+     * main thread is free again. Without the queue, tasks handed to {@link #sync()} cannot run while waiting.
+     */
+    @Override
+    public <T> T await(@NonNull CompletableFuture<T> future, long timeout, @NonNull TimeUnit unit) throws ExecutionException, TimeoutException, InterruptedException {
+        if (this.mainThreadQueue == null || !this.isSyncThread()) {
+            return future.get(timeout, unit);
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            this.mainThreadQueue.drainAll();
+            final long remaining = deadline - System.nanoTime();
+            try {
+                return future.get(Math.max(0, Math.min(remaining, AWAIT_POLL_NANOS)), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException exception) {
+                if (remaining <= AWAIT_POLL_NANOS) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NonNull List<PoolGauge> getPoolGauges() {
+        final List<PoolGauge> gauges = super.getPoolGauges();
+        if (this.mainThreadQueue != null) {
+            gauges.add(new PoolGauge("main-thread-queue", 1, 0, this.mainThreadQueue.getDepth(), -1));
+        }
+        return gauges;
+    }
+
+    @Override
+    public boolean isSyncThread() {
+        return this.plugin.getServer().isPrimaryThread();
+    }
+
+    @Override
+    public @Nullable TickMonitor getTickMonitor() {
+        return this.tickMonitor;
+    }
+
+    /**
+     * @return The queue behind {@link #sync()}, or {@code null} if it is disabled.
+     */
+    public @Nullable MainThreadQueue getMainThreadQueue() {
+        return this.mainThreadQueue;
+    }
+
+    /**
+     * @return The tick driver running the synchronous repeating tasks, or {@code null} if it is disabled.
+     */
+    public @Nullable TickDriver getTickDriver() {
+        return this.tickDriver;
     }
 
     @Override
@@ -0,0 +1,203 @@
+package com.github.liamdev06.scheduler;
+
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.metrics.TrackedSchedulerTask;
+import com.github.liamdev06.utils.bukkit.TickUtil;
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folia Implementation of {@link SchedulerAdapter} using the region schedulers of the server.
+ * <p>
+ * Unscoped synchronous tasks run on the {@link GlobalRegionScheduler}, while the entity and location scoped methods
+ * run their tasks on the region owning the entity or location. Asynchronous tasks run on the pools of the
+ * {@link AbstractSchedulerAdapter}. The tick driver, main thread queue and tick monitor of the {@link BukkitSchedulerAdapter}
+ * assume a single main thread and are not used.
+ * <p>
+ * The sync thread of this adapter is the global region thread. {@link #isSyncThread()} is {@code false} on the threads
+ * of the other regions, so {@link #supplySync(java.util.function.Supplier)} and
+ * {@link #thenSync(java.util.concurrent.CompletableFuture, java.util.function.Function)} called from an entity or
+ * location event continue on the global region. Work on an entity or a location is scheduled with the scoped methods,
+ * and {@link #isSyncThread(Entity)} and {@link #isSyncThread(Location)} check if the current region owns it.
+ * @see SchedulerAdapter for Javadocs on the implemented scheduler methods.
+ */
+public class FoliaSchedulerAdapter extends AbstractSchedulerAdapter implements SchedulerAdapter {
+
+    private static final @NonNull String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+    private static final boolean FOLIA = detectFolia();
+
+    private final @NonNull LPlugin plugin;
+    private final @NonNull Server server;
+    private final @NonNull GlobalRegionScheduler globalScheduler;
+    private final @NonNull RegionScheduler regionScheduler;
+    private final @NonNull Executor sync;
+
+    public FoliaSchedulerAdapter(@NonNull LPlugin plugin) {
+        this(plugin, SchedulerSettings.load(plugin));
+    }
+
+    public FoliaSchedulerAdapter(@NonNull LPlugin plugin, @NonNull SchedulerSettings settings) {
+        super(plugin, settings);
+        this.plugin = plugin;
+        this.server = plugin.getServer();
+        this.globalScheduler = this.server.getGlobalRegionScheduler();
+        this.regionScheduler = this.server.getRegionScheduler();
+        this.sync = runnable -> this.globalScheduler.execute(plugin, runnable);
+    }
+
+    /**
+     * @return {@code true} if the server runs Folia, {@code false} otherwise.
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName(REGIONIZED_SERVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.syncLater(task, delay, unit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final long delayTicks = toFoliaTicks(delay, unit);
+        final TrackedSchedulerTask tracked = this.track(task, options, ticksToNanos(delayTicks), 0);
+        return this.bind(tracked, this.globalScheduler.runDelayed(this.plugin, scheduledTask -> tracked.run(), delayTicks));
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit) {
+        return this.syncRepeating(task, initialDelay, interval, unit, TaskOptions.defaults());
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final long initialDelayTicks = toFoliaTicks(initialDelay, unit);
+        final long intervalTicks = toFoliaTicks(interval, unit);
+        final TrackedSchedulerTask tracked = this.track(task, options, ticksToNanos(initialDelayTicks), ticksToNanos(intervalTicks));
+        return this.bind(tracked, this.globalScheduler.runAtFixedRate(this.plugin, scheduledTask -> tracked.run(), initialDelayTicks, intervalTicks));
+    }
+
+    @Override
+    public void executeSync(@NonNull Entity entity, @NonNull Runnable task) {
+        entity.getScheduler().run(this.plugin, scheduledTask -> task.run(), null);
+    }
+
+    @Override
+    public void executeSync(@NonNull Location location, @NonNull Runnable task) {
+        this.regionScheduler.execute(this.plugin, location, task);
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncLater(@NonNull Entity entity, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        final long delayTicks = toFoliaTicks(delay, unit);
+        final TrackedSchedulerTask tracked = this.track(task, TaskOptions.defaults(), ticksToNanos(delayTicks), 0);
+        return this.bind(tracked, entity.getScheduler().runDelayed(this.plugin, scheduledTask -> tracked.run(), tracked::cancel, delayTicks));
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncLater(@NonNull Location location, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        final long delayTicks = toFoliaTicks(delay, unit);
+        final TrackedSchedulerTask tracked = this.track(task, TaskOptions.defaults(), ticksToNanos(delayTicks), 0);
+        return this.bind(tracked, this.regionScheduler.runDelayed(this.plugin, location, scheduledTask -> tracked.run(), delayTicks));
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncRepeating(@NonNull Entity entity, @NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit) {
+        final long initialDelayTicks = toFoliaTicks(initialDelay, unit);
+        final long intervalTicks = toFoliaTicks(interval, unit);
+        final TrackedSchedulerTask tracked = this.track(task, TaskOptions.defaults(), ticksToNanos(initialDelayTicks), ticksToNanos(intervalTicks));
+        return this.bind(tracked, entity.getScheduler().runAtFixedRate(this.plugin, scheduledTask -> tracked.run(), tracked::cancel, initialDelayTicks, intervalTicks));
+    }
+
+    @Override
+    public @NonNull SchedulerTask syncRepeating(@NonNull Location location, @NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit) {
+        final long initialDelayTicks = toFoliaTicks(initialDelay, unit);
+        final long intervalTicks = toFoliaTicks(interval, unit);
+        final TrackedSchedulerTask tracked = this.track(task, TaskOptions.defaults(), ticksToNanos(initialDelayTicks), ticksToNanos(intervalTicks));
+        return this.bind(tracked, this.regionScheduler.runAtFixedRate(this.plugin, location, scheduledTask -> tracked.run(), initialDelayTicks, intervalTicks));
+    }
+
+    /**
+     * Binds a scheduled Folia task to the tracked task, or cancels the tracked task if Folia did not schedule it,
+     * which happens when the entity of the task has already been removed. Entity tasks also cancel the tracked task
+     * when their entity is removed later, through the retired callback passed to the {@link EntityScheduler}.
+     */
+    private @NonNull SchedulerTask bind(@NonNull TrackedSchedulerTask tracked, ScheduledTask scheduledTask) {
+        if (scheduledTask == null) {
+            tracked.cancel();
+            return tracked;
+        }
+        return tracked.bind(new SchedulerTask() {
+            @Override
+            public void cancel() {
+                scheduledTask.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return scheduledTask.isCancelled();
+            }
+        });
+    }
+
+    /**
+     * Converts a time to ticks, Folia requires delays and intervals of at least one tick.
+     */
+    private static long toFoliaTicks(long time, @NonNull TimeUnit unit) {
+        return Math.max(1, TickUtil.convertToTicks(time, unit));
+    }
+
+    private static long ticksToNanos(long ticks) {
+        return TimeUnit.MILLISECONDS.toNanos(ticks * TickUtil.TICK_IN_MILLIS);
+    }
+
+    @Override
+    public void shutdownScheduler() {
+        this.globalScheduler.cancelTasks(this.plugin);
+        super.shutdownScheduler();
+    }
+
+    /**
+     * @return {@code true} if the current thread is the global region thread, {@code false} otherwise,
+     *         including on the threads of the other regions.
+     */
+    @Override
+    public boolean isSyncThread() {
+        return this.server.isGlobalTickThread();
+    }
+
+    @Override
+    public boolean isSyncThread(@NonNull Entity entity) {
+        return this.server.isOwnedByCurrentRegion(entity);
+    }
+
+    @Override
+    public boolean isSyncThread(@NonNull Location location) {
+        return this.server.isOwnedByCurrentRegion(location);
+    }
+
+    @Override
+    public @NonNull Executor sync() {
+        return this.sync;
+    }
+}
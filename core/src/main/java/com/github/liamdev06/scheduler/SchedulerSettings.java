@@ -0,0 +1,350 @@
+package com.github.liamdev06.scheduler;
+
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.configuration.ConfigurationProvider;
+import com.github.liamdev06.scheduler.executor.PoolSettings;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.Locale;
+
+/**
+ * Settings of the {@link AbstractSchedulerAdapter scheduler adapters}, read from the {@code scheduler} section of the plugin config.
+ * <p>
+ * Every setting is optional and falls back to its default when it is missing or the plugin does not load a {@code config} file.
+ * <pre>
+ * scheduler:
+ *   timer: executor # or timing-wheel
+ *   timing-wheel:
+ *     tick-millis: 10
+ *     size: 512
+ *   async-mode: pool # or virtual-threads
+ *   virtual-threads:
+ *     pinned-threshold-millis: 20
+ *   tick-driver: true
+ *   main-thread-queue:
+ *     enabled: true
+ *     budget-millis: 5
+ *   metrics: true
+ *   load-shedding:
+ *     enabled: true
+ *     mspt-budget: 45
+ *     recover-mspt: 40
+ *     stretch-factor: 3
+ *   stall-detector:
+ *     enabled: false
+ *     threshold-millis: 100
+ *     sample-interval-millis: 10
+ *   worker:
+ *     threads: 16
+ *   compute: # see PoolSettings, threads default to the amount of cores
+ *     threads: 8
+ *   io: # see PoolSettings, threads default to four times the amount of cores
+ *     threads: 32
+ * </pre>
+ */
+public class SchedulerSettings {
+
+    /**
+     * File id of the configuration the settings are read from.
+     */
+    public static final @NonNull String CONFIG_ID = "config";
+
+    /**
+     * Path of the section in the configuration the settings are read from.
+     */
+    public static final @NonNull String SECTION = "scheduler";
+
+    private final @NonNull TimerEngine timerEngine;
+    private final long wheelTickMillis;
+    private final int wheelSize;
+    private final @NonNull AsyncMode asyncMode;
+    private final long pinnedThresholdMillis;
+    private final boolean tickDriver;
+    private final boolean mainThreadQueue;
+    private final long mainThreadQueueBudgetMillis;
+    private final boolean metrics;
+    private final boolean loadShedding;
+    private final double msptBudget;
+    private final double recoverMspt;
+    private final int stretchFactor;
+    private final boolean stallDetector;
+    private final long stallThresholdMillis;
+    private final long stallSampleIntervalMillis;
+    private final int workerThreads;
+    private final @NonNull PoolSettings computeSettings;
+    private final @NonNull PoolSettings ioSettings;
+
+    /**
+     * Reads the settings from a configuration node.
+     *
+     * @param node The {@code scheduler} section to read the settings from.
+     */
+    public SchedulerSettings(@NonNull ConfigurationNode node) {
+        this.timerEngine = TimerEngine.fromKey(node.node("timer").getString(TimerEngine.EXECUTOR.getKey()));
+        this.wheelTickMillis = Math.max(1, node.node("timing-wheel", "tick-millis").getLong(10));
+        this.wheelSize = Math.max(1, node.node("timing-wheel", "size").getInt(512));
+        this.asyncMode = AsyncMode.fromKey(node.node("async-mode").getString(AsyncMode.POOL.getKey()));
+        this.pinnedThresholdMillis = Math.max(0, node.node("virtual-threads", "pinned-threshold-millis").getLong(20));
+
+        this.tickDriver = node.node("tick-driver").getBoolean(true);
+        this.mainThreadQueue = node.node("main-thread-queue", "enabled").getBoolean(true);
+        this.mainThreadQueueBudgetMillis = Math.max(1, node.node("main-thread-queue", "budget-millis").getLong(5));
+        this.metrics = node.node("metrics").getBoolean(true);
+        this.loadShedding = node.node("load-shedding", "enabled").getBoolean(true);
+        this.msptBudget = Math.max(1, node.node("load-shedding", "mspt-budget").getDouble(45));
+        this.recoverMspt = Math.max(1, node.node("load-shedding", "recover-mspt").getDouble(40));
+        this.stretchFactor = Math.max(1, node.node("load-shedding", "stretch-factor").getInt(3));
+        this.stallDetector = node.node("stall-detector", "enabled").getBoolean(false);
+        this.stallThresholdMillis = Math.max(1, node.node("stall-detector", "threshold-millis").getLong(100));
+        this.stallSampleIntervalMillis = Math.max(1, node.node("stall-detector", "sample-interval-millis").getLong(10));
+
+        final int cores = Runtime.getRuntime().availableProcessors();
+        this.workerThreads = Math.max(1, node.node("worker", "threads").getInt(16));
+        this.computeSettings = new PoolSettings(node.node("compute"), cores);
+        this.ioSettings = new PoolSettings(node.node("io"), Math.max(8, cores * 4));
+    }
+
+    /**
+     * Reads the settings of a plugin from the {@code scheduler} section of its {@code config} file.
+     *
+     * @param plugin The plugin to read the settings of.
+     * @return The settings of the plugin, or the default settings if the plugin does not load a {@code config} file.
+     */
+    public static @NonNull SchedulerSettings load(@NonNull LPlugin plugin) {
+        return plugin.getRegisteredConfig(CONFIG_ID)
+                .map(ConfigurationProvider::getRootNode)
+                .map(root -> new SchedulerSettings(root.node(SECTION)))
+                .orElseGet(SchedulerSettings::defaults);
+    }
+
+    /**
+     * @return The default settings.
+     */
+    public static @NonNull SchedulerSettings defaults() {
+        return new SchedulerSettings(BasicConfigurationNode.root());
+    }
+
+    /**
+     * @return The engine running delayed and repeating asynchronous tasks. By default, this is {@link TimerEngine#EXECUTOR}.
+     */
+    public @NonNull TimerEngine getTimerEngine() {
+        return this.timerEngine;
+    }
+
+    /**
+     * @return The tick duration, and with that the resolution, of the timing wheel in milliseconds. By default, this is 10.
+     */
+    public long getWheelTickMillis() {
+        return this.wheelTickMillis;
+    }
+
+    /**
+     * @return The amount of buckets in the timing wheel. By default, this is 512.
+     */
+    public int getWheelSize() {
+        return this.wheelSize;
+    }
+
+    /**
+     * @return How asynchronous tasks are executed. By default, this is {@link AsyncMode#POOL}.
+     */
+    public @NonNull AsyncMode getAsyncMode() {
+        return this.asyncMode;
+    }
+
+    /**
+     * @return The minimum time a virtual thread must be pinned to its carrier for it to be logged. By default, this is 20.
+     */
+    public long getPinnedThresholdMillis() {
+        return this.pinnedThresholdMillis;
+    }
+
+    /**
+     * @return If synchronous repeating tasks are run by a single {@link com.github.liamdev06.scheduler.tick.TickDriver}
+     *         instead of a Bukkit task each. By default, this is {@code true}.
+     */
+    public boolean isTickDriver() {
+        return this.tickDriver;
+    }
+
+    /**
+     * @return If tasks handed to the main thread through {@link com.github.liamdev06.scheduler.interfaces.SchedulerAdapter#sync()}
+     *         are queued in a {@link com.github.liamdev06.scheduler.tick.MainThreadQueue} instead of a Bukkit task each.
+     *         By default, this is {@code true}.
+     */
+    public boolean isMainThreadQueue() {
+        return this.mainThreadQueue;
+    }
+
+    /**
+     * @return The time the main thread queue may spend per tick in milliseconds. By default, this is 5.
+     */
+    public long getMainThreadQueueBudgetMillis() {
+        return this.mainThreadQueueBudgetMillis;
+    }
+
+    /**
+     * @return If the scheduling lag and execution time of delayed and repeating tasks are recorded per label.
+     *         By default, this is {@code true}.
+     */
+    public boolean isMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * @return If low priority repeating tasks are shed while the server is over its tick budget. By default, this is {@code true}.
+     * @see com.github.liamdev06.scheduler.load.TickMonitor
+     */
+    public boolean isLoadShedding() {
+        return this.loadShedding;
+    }
+
+    /**
+     * @return The average milliseconds per tick above which low priority tasks are shed. By default, this is 45.
+     */
+    public double getMsptBudget() {
+        return this.msptBudget;
+    }
+
+    /**
+     * @return The average milliseconds per tick below which low priority tasks run normally again. By default, this is 40.
+     */
+    public double getRecoverMspt() {
+        return this.recoverMspt;
+    }
+
+    /**
+     * @return How many times longer the interval of low priority tasks is while shedding. By default, this is 3.
+     */
+    public int getStretchFactor() {
+        return this.stretchFactor;
+    }
+
+    /**
+     * @return If synchronous tasks stalling the main thread are sampled and reported. By default, this is {@code false}.
+     * @see com.github.liamdev06.scheduler.stall.StallDetector
+     */
+    public boolean isStallDetector() {
+        return this.stallDetector;
+    }
+
+    /**
+     * @return How long a synchronous task may run in milliseconds before it is sampled. By default, this is 100.
+     */
+    public long getStallThresholdMillis() {
+        return this.stallThresholdMillis;
+    }
+
+    /**
+     * @return The interval between the stack samples of a stalled task in milliseconds. By default, this is 10.
+     */
+    public long getStallSampleIntervalMillis() {
+        return this.stallSampleIntervalMillis;
+    }
+
+    /**
+     * @return The parallelism of the worker pool running the asynchronous tasks. By default, this is 16.
+     */
+    public int getWorkerThreads() {
+        return this.workerThreads;
+    }
+
+    /**
+     * @return The settings of the pool for CPU-bound work.
+     */
+    public @NonNull PoolSettings getComputeSettings() {
+        return this.computeSettings;
+    }
+
+    /**
+     * @return The settings of the pool for blocking I/O work.
+     */
+    public @NonNull PoolSettings getIoSettings() {
+        return this.ioSettings;
+    }
+
+    private static @NonNull String normalizeKey(@NonNull String key) {
+        return key.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * How the asynchronous tasks of a {@link AbstractSchedulerAdapter} are executed.
+     */
+    public enum AsyncMode {
+
+        /**
+         * A fixed pool of platform threads.
+         */
+        POOL("pool"),
+
+        /**
+         * A new virtual thread for every task, which suits tasks blocking on I/O. Requires Java 21 or newer,
+         * on older runtimes the {@link #POOL} is used instead.
+         */
+        VIRTUAL_THREADS("virtual-threads");
+
+        private final @NonNull String key;
+
+        AsyncMode(@NonNull String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return The key of the mode in the configuration.
+         */
+        public @NonNull String getKey() {
+            return this.key;
+        }
+
+        private static @NonNull AsyncMode fromKey(@NonNull String key) {
+            final String normalized = normalizeKey(key);
+            for (AsyncMode mode : values()) {
+                if (mode.key.equals(normalized)) {
+                    return mode;
+                }
+            }
+            return POOL;
+        }
+    }
+
+    /**
+     * Engine running the delayed and repeating asynchronous tasks of a {@link AbstractSchedulerAdapter}.
+     */
+    public enum TimerEngine {
+
+        /**
+         * A single threaded {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+         */
+        EXECUTOR("executor"),
+
+        /**
+         * A {@link com.github.liamdev06.scheduler.wheel.HashedTimingWheel}, with constant time schedule and cancel for large amounts of timers.
+         */
+        TIMING_WHEEL("timing-wheel");
+
+        private final @NonNull String key;
+
+        TimerEngine(@NonNull String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return The key of the engine in the configuration.
+         */
+        public @NonNull String getKey() {
+            return this.key;
+        }
+
+        private static @NonNull TimerEngine fromKey(@NonNull String key) {
+            final String normalized = normalizeKey(key);
+            for (TimerEngine engine : values()) {
+                if (engine.key.equals(normalized)) {
+                    return engine;
+                }
+            }
+            return EXECUTOR;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.github.liamdev06.scheduler;
+
+import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group of tasks scheduled through a {@link SchedulerAdapter}, owned by something like a component or an arena.
+ * <p>
+ * Tasks scheduled through the group are tracked until they are cancelled or, for delayed tasks, until they have run,
+ * so {@link #cancelAll()} stops everything the owner still has running in one call. The group can be reused after
+ * cancelling its tasks. Tracked tasks are stored in one array, a task removed from the group is replaced by the last one.
+ * <p>
+ * Tasks scheduled on the adapter directly can be added to the group with {@link #add(SchedulerTask)},
+ * those are tracked until they are cancelled. Entity scoped tasks whose entity is removed are cancelled by the
+ * adapter, and are removed from the group the next time its {@link #getLiveCount() live tasks} are counted.
+ */
+public final class TaskGroup {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final @NonNull String name;
+    private final @NonNull SchedulerAdapter adapter;
+    private final @NonNull Object lock = new Object();
+
+    private @Nullable Member @NonNull [] members = new Member[INITIAL_CAPACITY];
+    private int size;
+
+    public TaskGroup(@NonNull String name, @NonNull SchedulerAdapter adapter) {
+        this.name = name;
+        this.adapter = adapter;
+    }
+
+    /**
+     * @see SchedulerAdapter#syncLater(Runnable, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.syncLater(task, delay, unit, TaskOptions.defaults());
+    }
+
+    /**
+     * @see SchedulerAdapter#syncLater(Runnable, long, TimeUnit, TaskOptions)
+     */
+    public @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncLater(member.wrap(task), delay, unit, options));
+    }
+
+    /**
+     * @see SchedulerAdapter#syncRepeating(Runnable, long, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        return this.syncRepeating(task, initialDelay, sequenceInterval, unit, TaskOptions.defaults());
+    }
+
+    /**
+     * @see SchedulerAdapter#syncRepeating(Runnable, long, long, TimeUnit, TaskOptions)
+     */
+    public @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncRepeating(task, initialDelay, sequenceInterval, unit, options));
+    }
+
+    /**
+     * @see SchedulerAdapter#syncLater(Entity, Runnable, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncLater(@NonNull Entity entity, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncLater(entity, member.wrap(task), delay, unit));
+    }
+
+    /**
+     * @see SchedulerAdapter#syncLater(Location, Runnable, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncLater(@NonNull Location location, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncLater(location, member.wrap(task), delay, unit));
+    }
+
+    /**
+     * @see SchedulerAdapter#syncRepeating(Entity, Runnable, long, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncRepeating(@NonNull Entity entity, @NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncRepeating(entity, task, initialDelay, sequenceInterval, unit));
+    }
+
+    /**
+     * @see SchedulerAdapter#syncRepeating(Location, Runnable, long, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask syncRepeating(@NonNull Location location, @NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        final Member member = this.join();
+        return member.bind(this.adapter.syncRepeating(location, task, initialDelay, sequenceInterval, unit));
+    }
+
+    /**
+     * @see SchedulerAdapter#asyncLater(Runnable, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask asyncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.asyncLater(task, delay, unit, TaskOptions.defaults());
+    }
+
+    /**
+     * @see SchedulerAdapter#asyncLater(Runnable, long, TimeUnit, TaskOptions)
+     */
+    public @NonNull SchedulerTask asyncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final Member member = this.join();
+        return member.bind(this.adapter.asyncLater(member.wrap(task), delay, unit, options));
+    }
+
+    /**
+     * @see SchedulerAdapter#asyncRepeating(Runnable, long, long, TimeUnit)
+     */
+    public @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        return this.asyncRepeating(task, initialDelay, sequenceInterval, unit, TaskOptions.defaults());
+    }
+
+    /**
+     * @see SchedulerAdapter#asyncRepeating(Runnable, long, long, TimeUnit, TaskOptions)
+     */
+    public @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        final Member member = this.join();
+        return member.bind(this.adapter.asyncRepeating(task, initialDelay, sequenceInterval, unit, options));
+    }
+
+    /**
+     * Adds a task scheduled elsewhere to this group. The task is tracked until it is cancelled.
+     *
+     * @param task The task to add.
+     * @return The task of this group wrapping the input task, cancelling it also removes it from this group.
+     */
+    public @NonNull SchedulerTask add(@NonNull SchedulerTask task) {
+        return this.join().bind(task);
+    }
+
+    /**
+     * Cancels every task of this group that is still running and removes them from the group.
+     *
+     * @return How many tasks were cancelled.
+     */
+    public int cancelAll() {
+        final Member[] cancelled;
+        synchronized (this.lock) {
+            cancelled = Arrays.copyOf(this.members, this.size);
+            Arrays.fill(this.members, 0, this.size, null);
+            this.size = 0;
+            for (Member member : cancelled) {
+                member.slot = -1;
+            }
+        }
+
+        // Cancel outside the lock, as cancelling may run code of the adapter
+        for (Member member : cancelled) {
+            member.cancel();
+        }
+        return cancelled.length;
+    }
+
+    /**
+     * Counts the tasks of this group that are still running. Tasks that have been cancelled
+     * outside of this group, like entity tasks whose entity was removed, are removed from the group.
+     *
+     * @return How many tasks of this group are still running.
+     */
+    public int getLiveCount() {
+        synchronized (this.lock) {
+            for (int i = this.size - 1; i >= 0; i--) {
+                final Member member = this.members[i];
+                if (member != null && member.isDelegateCancelled()) {
+                    this.removeAt(i);
+                }
+            }
+            return this.size;
+        }
+    }
+
+    /**
+     * @return The name of this group.
+     */
+    public @NonNull String getName() {
+        return this.name;
+    }
+
+    private @NonNull Member join() {
+        final Member member = new Member(this);
+        synchronized (this.lock) {
+            if (this.size == this.members.length) {
+                this.members = Arrays.copyOf(this.members, this.size << 1);
+            }
+            member.slot = this.size;
+            this.members[this.size++] = member;
+        }
+        return member;
+    }
+
+    private void leave(@NonNull Member member) {
+        synchronized (this.lock) {
+            if (member.slot >= 0) {
+                this.removeAt(member.slot);
+            }
+        }
+    }
+
+    /**
+     * Removes the member at the slot by moving the last member into it. Must be called holding the lock.
+     */
+    private void removeAt(int slot) {
+        final Member removed = this.members[slot];
+        final Member last = this.members[--this.size];
+        this.members[this.size] = null;
+        if (slot != this.size) {
+            this.members[slot] = last;
+            last.slot = slot;
+        }
+        if (removed != null) {
+            removed.slot = -1;
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "TaskGroup{name=" + this.name + ", tasks=" + this.getLiveCount() + "}";
+    }
+
+    /**
+     * Task of a group, wrapping the task returned by the adapter.
+     * <p>
+     * Members join the group before their task is scheduled, so a delayed task running before the adapter
+     * returns its handle is still removed from the group, and a member cancelled before the handle is bound
+     * cancels the handle once it is bound.
+     */
+    private static final class Member implements SchedulerTask {
+
+        private final @NonNull TaskGroup group;
+
+        // Guarded by the lock of the group
+        private int slot = -1;
+
+        private volatile @Nullable SchedulerTask delegate;
+        private volatile boolean cancelled;
+
+        private Member(@NonNull TaskGroup group) {
+            this.group = group;
+        }
+
+        private @NonNull Runnable wrap(@NonNull Runnable task) {
+            return () -> {
+                try {
+                    task.run();
+                } finally {
+                    this.group.leave(this);
+                }
+            };
+        }
+
+        private @NonNull SchedulerTask bind(@NonNull SchedulerTask delegate) {
+            this.delegate = delegate;
+            if (this.cancelled) {
+                delegate.cancel();
+            }
+            return this;
+        }
+
+        private boolean isDelegateCancelled() {
+            final SchedulerTask delegate = this.delegate;
+            return delegate != null && delegate.isCancelled();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            final SchedulerTask delegate = this.delegate;
+            if (delegate != null) {
+                delegate.cancel();
+            }
+            this.group.leave(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled || this.isDelegateCancelled();
+        }
+
+        @Override
+        public long getRunCount() {
+            final SchedulerTask delegate = this.delegate;
+            return delegate != null ? delegate.getRunCount() : 0;
+        }
+
+        @Override
+        public long getLastDurationNanos() {
+            final SchedulerTask delegate = this.delegate;
+            return delegate != null ? delegate.getLastDurationNanos() : 0;
+        }
+
+        @Override
+        public long getSkippedRunCount() {
+            final SchedulerTask delegate = this.delegate;
+            return delegate != null ? delegate.getSkippedRunCount() : 0;
+        }
+
+        @Override
+        public @NonNull String toString() {
+            return "TaskGroup.Member{group=" + this.group.name + ", cancelled=" + this.cancelled + "}";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.liamdev06.scheduler;
+
+import com.github.liamdev06.scheduler.load.TaskPriority;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Options of a scheduled task, passed to the overloads of the {@link com.github.liamdev06.scheduler.interfaces.SchedulerAdapter}
+ * scheduling methods that accept them.
+ * <p>
+ * The options are immutable, every {@code with} method returns a copy with the changed option.
+ */
+public final class TaskOptions {
+
+    /**
+     * Label of tasks that are scheduled without one.
+     */
+    public static final @NonNull String DEFAULT_LABEL = "unlabelled";
+
+    private static final @NonNull TaskOptions DEFAULTS = new TaskOptions(DEFAULT_LABEL, RepeatPolicy.ALLOW_OVERLAP, TaskPriority.NORMAL);
+
+    private final @NonNull String label;
+    private final @NonNull RepeatPolicy repeatPolicy;
+    private final @NonNull TaskPriority priority;
+
+    private TaskOptions(@NonNull String label, @NonNull RepeatPolicy repeatPolicy, @NonNull TaskPriority priority) {
+        this.label = label;
+        this.repeatPolicy = repeatPolicy;
+        this.priority = priority;
+    }
+
+    /**
+     * @return The options tasks are scheduled with when no options are provided.
+     */
+    public static @NonNull TaskOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param label The label to group the metrics of the task by.
+     * @return Default options with the provided label.
+     */
+    public static @NonNull TaskOptions labelled(@NonNull String label) {
+        return DEFAULTS.withLabel(label);
+    }
+
+    /**
+     * @param label The label to group the metrics of the task by.
+     * @return A copy of these options with the provided label.
+     */
+    public @NonNull TaskOptions withLabel(@NonNull String label) {
+        return new TaskOptions(label, this.repeatPolicy, this.priority);
+    }
+
+    /**
+     * @param repeatPolicy The policy of a repeating task for runs that take longer than the interval.
+     * @return A copy of these options with the provided repeat policy.
+     */
+    public @NonNull TaskOptions withRepeatPolicy(@NonNull RepeatPolicy repeatPolicy) {
+        return new TaskOptions(this.label, repeatPolicy, this.priority);
+    }
+
+    /**
+     * @param priority The priority of a repeating task while the server is over its tick budget.
+     * @return A copy of these options with the provided priority.
+     */
+    public @NonNull TaskOptions withPriority(@NonNull TaskPriority priority) {
+        return new TaskOptions(this.label, this.repeatPolicy, priority);
+    }
+
+    /**
+     * @return The label the metrics of the task are grouped by.
+     */
+    public @NonNull String getLabel() {
+        return this.label;
+    }
+
+    /**
+     * @return The policy of a repeating task for runs that take longer than the interval.
+     *         By default, this is {@link RepeatPolicy#ALLOW_OVERLAP}.
+     */
+    public @NonNull RepeatPolicy getRepeatPolicy() {
+        return this.repeatPolicy;
+    }
+
+    /**
+     * @return The priority of a repeating task while the server is over its tick budget.
+     *         By default, this is {@link TaskPriority#NORMAL}.
+     */
+    public @NonNull TaskPriority getPriority() {
+        return this.priority;
+    }
+}
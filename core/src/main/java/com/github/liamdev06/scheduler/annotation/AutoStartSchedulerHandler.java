@@ -2,6 +2,7 @@ package com.github.liamdev06.scheduler.annotation;
 
 import com.github.liamdev06.registry.AutoRegister;
 import com.github.liamdev06.scheduler.handler.AbstractSchedulerHandler;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -29,4 +30,12 @@ public @interface AutoStartSchedulerHandler {
      * @return True if the scheduler task should run asynchronously.
      */
     boolean async() default false;
+
+    /**
+     * Set what happens when a run of an asynchronous scheduler takes longer than its interval.
+     * By default, runs are allowed to overlap.
+     *
+     * @return The {@link RepeatPolicy} of the scheduler task.
+     */
+    RepeatPolicy repeatPolicy() default RepeatPolicy.ALLOW_OVERLAP;
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.github.liamdev06.scheduler.executor;
+
+import com.github.liamdev06.utils.java.LoggerUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.Locale;
+import java.util.concurrent.*;
+
+/**
+ * Settings of a bounded thread pool, read from a section of the {@code scheduler} configuration.
+ * <pre>
+ * threads: 8
+ * queue-limit: 10000
+ * keep-alive-seconds: 60
+ * rejection-policy: abort # or caller-runs, discard-oldest
+ * </pre>
+ * Tasks submitted while the queue is full are rejected by default. The {@code caller-runs} policy is opt-in, as it runs
+ * the task on the submitting thread, which can be the main thread. It suits a compute pool fed by asynchronous work,
+ * but should not be used for an io pool, where it would block the submitter on I/O.
+ */
+public class PoolSettings {
+
+    private static final @NonNull Logger LOGGER = LoggerUtil.createLogger(PoolSettings.class);
+
+    private final int threads;
+    private final int queueLimit;
+    private final long keepAliveSeconds;
+    private final @NonNull RejectionPolicy rejectionPolicy;
+
+    /**
+     * Reads the settings from a configuration node.
+     *
+     * @param node The section of the pool to read the settings from.
+     * @param defaultThreads The amount of threads used when none is configured.
+     */
+    public PoolSettings(@NonNull ConfigurationNode node, int defaultThreads) {
+        this.threads = Math.max(1, node.node("threads").getInt(defaultThreads));
+        this.queueLimit = Math.max(1, node.node("queue-limit").getInt(10_000));
+        this.keepAliveSeconds = Math.max(1, node.node("keep-alive-seconds").getLong(60));
+        this.rejectionPolicy = RejectionPolicy.fromKey(node.node("rejection-policy").getString(RejectionPolicy.ABORT.getKey()));
+    }
+
+    /**
+     * Creates a thread pool from these settings.
+     * <p>
+     * The pool starts a new thread for every task until it reaches the maximum amount of threads, and then queues
+     * tasks up to the queue limit. Idle threads are stopped after the keep alive time, so the pool shrinks when it is unused.
+     *
+     * @param threadFactory The factory creating the threads of the pool.
+     * @return The created pool.
+     */
+    public @NonNull ThreadPoolExecutor createPool(@NonNull ThreadFactory threadFactory) {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                this.threads,
+                this.threads,
+                this.keepAliveSeconds,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(this.queueLimit),
+                threadFactory,
+                this.rejectionPolicy.createHandler()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * @return The maximum amount of threads in the pool.
+     */
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * @return The maximum amount of tasks waiting in the queue of the pool. By default, this is 10000.
+     */
+    public int getQueueLimit() {
+        return this.queueLimit;
+    }
+
+    /**
+     * @return How long an idle thread is kept alive in seconds. By default, this is 60.
+     */
+    public long getKeepAliveSeconds() {
+        return this.keepAliveSeconds;
+    }
+
+    /**
+     * @return What happens with tasks submitted while the queue is full. By default, this is {@link RejectionPolicy#ABORT}.
+     */
+    public @NonNull RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * What happens with a task submitted to a pool whose queue is full.
+     */
+    public enum RejectionPolicy {
+
+        /**
+         * The task runs on the thread submitting it, which slows down the submitter until the pool catches up.
+         */
+        CALLER_RUNS("caller-runs"),
+
+        /**
+         * A {@link RejectedExecutionException} is thrown to the submitter.
+         */
+        ABORT("abort"),
+
+        /**
+         * The oldest queued task is dropped to make room for the task.
+         */
+        DISCARD_OLDEST("discard-oldest");
+
+        private final @NonNull String key;
+
+        RejectionPolicy(@NonNull String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return The key of the policy in the configuration.
+         */
+        public @NonNull String getKey() {
+            return this.key;
+        }
+
+        private @NonNull RejectedExecutionHandler createHandler() {
+            return switch (this) {
+                case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+                case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+                case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            };
+        }
+
+        private static @NonNull RejectionPolicy fromKey(@NonNull String key) {
+            final String normalized = key.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+            for (RejectionPolicy policy : values()) {
+                if (policy.key.equals(normalized)) {
+                    return policy;
+                }
+            }
+            LOGGER.warn("Unknown rejection policy '{}', using '{}' instead.", key, ABORT.key);
+            return ABORT;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.liamdev06.scheduler.executor;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs virtual threads that are pinned to their carrier thread or could not be started, using an in-process JFR stream.
+ * <p>
+ * A pinned virtual thread blocks its carrier while it waits, most commonly inside a {@code synchronized} block doing I/O,
+ * which reduces the amount of virtual threads that can make progress. Every pinned event above the threshold is logged
+ * with the top frames of its stack, so the blocking code can be found.
+ */
+public class VirtualThreadDiagnostics implements AutoCloseable {
+
+    private static final @NonNull String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final @NonNull String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final @NonNull Logger logger;
+    private final @NonNull LongAdder pinnedCount;
+    private @Nullable RecordingStream stream;
+
+    /**
+     * @param logger The {@link Logger} to log the diagnostics with.
+     */
+    public VirtualThreadDiagnostics(@NonNull Logger logger) {
+        this.logger = logger;
+        this.pinnedCount = new LongAdder();
+    }
+
+    /**
+     * Starts streaming the virtual thread events in the background.
+     *
+     * @param pinnedThreshold The minimum duration a virtual thread must be pinned for it to be logged.
+     * @return {@code true} if the stream started, {@code false} if JFR is not available on this runtime.
+     */
+    public synchronized boolean start(@NonNull Duration pinnedThreshold) {
+        if (this.stream != null) {
+            return true;
+        }
+
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+            stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.onEvent(SUBMIT_FAILED_EVENT, event -> this.logger.error("A virtual thread could not be started: {}", event.getString("exceptionMessage")));
+            stream.setReuse(true);
+            stream.startAsync();
+            this.stream = stream;
+            return true;
+        } catch (RuntimeException | Error exception) {
+            this.logger.warn("Could not start the virtual thread diagnostics, pinned virtual threads will not be logged.", exception);
+            return false;
+        }
+    }
+
+    private void onPinned(@NonNull RecordedEvent event) {
+        this.pinnedCount.increment();
+
+        final StringJoiner frames = new StringJoiner(System.lineSeparator() + "    at ", System.lineSeparator() + "    at ", "");
+        final RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            final List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+            for (int i = 0; i < Math.min(LOGGED_FRAMES, recordedFrames.size()); i++) {
+                RecordedFrame frame = recordedFrames.get(i);
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            }
+        }
+
+        this.logger.warn("A virtual thread was pinned to its carrier thread for {}ms, avoid blocking inside synchronized code on async tasks.{}",
+                event.getDuration().toMillis(), frames);
+    }
+
+    /**
+     * @return How many pinned virtual threads have been logged.
+     */
+    public long getPinnedCount() {
+        return this.pinnedCount.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.stream != null) {
+            this.stream.close();
+            this.stream = null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.liamdev06.scheduler.executor;
+
+import lombok.experimental.UtilityClass;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utility class for creating virtual thread executors when the server runs on Java 21 or newer.
+ * <p>
+ * The library targets Java 17, so the virtual thread API is looked up once through method handles.
+ * On older runtimes {@link #isSupported()} returns {@code false} and no executor can be created.
+ */
+@UtilityClass
+public class VirtualThreads {
+
+    private static final @Nullable MethodHandle OF_VIRTUAL;
+    private static final @Nullable MethodHandle NAME;
+    private static final @Nullable MethodHandle FACTORY;
+    private static final @Nullable MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            name = lookup.findVirtual(virtualBuilderClass, "name", MethodType.methodType(virtualBuilderClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Virtual threads are not available on this runtime
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    /**
+     * @return {@code true} if the runtime supports virtual threads, {@code false} otherwise.
+     */
+    public static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for every task.
+     *
+     * @param threadPrefix Prefix of the thread names, followed by an incrementing number.
+     * @return The created executor, or {@code null} if virtual threads are not supported.
+     */
+    public static @Nullable ExecutorService newVirtualThreadExecutor(@NonNull String threadPrefix) {
+        if (!isSupported()) {
+            return null;
+        }
+
+        try {
+            final Object builder = NAME.invoke(OF_VIRTUAL.invoke(), threadPrefix, 0L);
+            final ThreadFactory threadFactory = (ThreadFactory) FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Could not create a virtual thread executor.", throwable);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.github.liamdev06.scheduler.handler;
 
 import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.scheduler.TaskOptions;
 import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
 import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.load.TaskPriority;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -37,15 +40,28 @@ public abstract class AbstractSchedulerHandler {
      * @param async If the task should run asynchronous or not.
      */
     protected void start(boolean async) {
+        this.start(async, RepeatPolicy.ALLOW_OVERLAP);
+    }
+
+    /**
+     * Start a new repeating {@link SchedulerTask} in this handler.
+     *
+     * @param async If the task should run asynchronous or not.
+     * @param repeatPolicy The {@link RepeatPolicy} for runs that take longer than the interval.
+     */
+    protected void start(boolean async, @NonNull RepeatPolicy repeatPolicy) {
         if (this.task != null) {
             throw new IllegalStateException("This runnable already has an active task");
         }
 
         final SchedulerAdapter schedulerAdapter = LPlugin.getInstance().getSchedulerAdapter();
+        final TaskOptions options = TaskOptions.labelled(this.identifier)
+                .withRepeatPolicy(repeatPolicy)
+                .withPriority(this.getPriority());
         if (async) {
-            this.task = schedulerAdapter.asyncRepeating(this::run, this.initialTime, this.intervalTime, this.unit);
+            this.task = schedulerAdapter.asyncRepeating(this::run, this.initialTime, this.intervalTime, this.unit, options);
         } else {
-            this.task = schedulerAdapter.syncRepeating(this::run, this.initialTime, this.intervalTime, this.unit);
+            this.task = schedulerAdapter.syncRepeating(this::run, this.initialTime, this.intervalTime, this.unit, options);
         }
     }
 
@@ -58,6 +74,24 @@ public abstract class AbstractSchedulerHandler {
         }
     }
 
+    /**
+     * Gets the priority of this handler, deciding how it is shed while the server is over its tick budget.
+     * <p>
+     * Override this for low value handlers, like cosmetics or scoreboard refreshes.
+     *
+     * @return The {@link TaskPriority} of this handler. By default, this is {@link TaskPriority#NORMAL}.
+     */
+    public @NonNull TaskPriority getPriority() {
+        return TaskPriority.NORMAL;
+    }
+
+    /**
+     * @return The running {@link SchedulerTask} of this handler, or {@code null} if it has not been started.
+     */
+    public @Nullable SchedulerTask getTask() {
+        return this.task;
+    }
+
     /**
      * @return Internal identifier of this handler.
      */
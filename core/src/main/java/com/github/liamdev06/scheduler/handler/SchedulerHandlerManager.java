@@ -3,6 +3,8 @@ package com.github.liamdev06.scheduler.handler;
 import com.github.liamdev06.registry.RegistryFactory;
 import com.github.liamdev06.registry.component.AutoRegisteringFeature;
 import com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
+import com.github.liamdev06.utils.java.AnnotationCache;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.HashMap;
@@ -13,6 +15,8 @@ import java.util.Map;
  */
 public class SchedulerHandlerManager implements AutoRegisteringFeature {
 
+    private static final @NonNull AnnotationCache<AutoStartSchedulerHandler> AUTO_START = new AnnotationCache<>(AutoStartSchedulerHandler.class);
+
     private final @NonNull Map<String, AbstractSchedulerHandler> handlers = new HashMap<>();
 
     public SchedulerHandlerManager(@NonNull RegistryFactory registryFactory) {
@@ -35,11 +39,9 @@ public class SchedulerHandlerManager implements AutoRegisteringFeature {
      */
     public void startAllAutoSchedulers() {
         for (AbstractSchedulerHandler handler : this.handlers.values()) {
-            Class<? extends AbstractSchedulerHandler> handlerClass = handler.getClass();
-
-            if (handlerClass.isAnnotationPresent(AutoStartSchedulerHandler.class)) {
-                boolean async = handlerClass.getAnnotation(AutoStartSchedulerHandler.class).async();
-                this.start(handler.getIdentifier(), async);
+            AutoStartSchedulerHandler autoStart = AUTO_START.find(handler.getClass());
+            if (autoStart != null) {
+                this.start(handler.getIdentifier(), autoStart.async(), autoStart.repeatPolicy());
             }
         }
     }
@@ -70,9 +72,20 @@ public class SchedulerHandlerManager implements AutoRegisteringFeature {
      * @param async If the task should run asynchronously or not.
      */
     public void start(@NonNull String identifier, boolean async) {
+        this.start(identifier, async, RepeatPolicy.ALLOW_OVERLAP);
+    }
+
+    /**
+     * Start a new task within a {@link AbstractSchedulerHandler}.
+     *
+     * @param identifier Internal identifier of the {@link AbstractSchedulerHandler} to start a task in.
+     * @param async If the task should run asynchronously or not.
+     * @param repeatPolicy The {@link RepeatPolicy} for runs that take longer than the interval.
+     */
+    public void start(@NonNull String identifier, boolean async, @NonNull RepeatPolicy repeatPolicy) {
         if (this.handlers.containsKey(identifier)) {
             AbstractSchedulerHandler handler = this.handlers.get(identifier);
-            handler.start(async);
+            handler.start(async, repeatPolicy);
         }
     }
 
@@ -1,12 +1,41 @@
 package com.github.liamdev06.scheduler.interfaces;
 
+import com.github.liamdev06.scheduler.TaskGroup;
+import com.github.liamdev06.scheduler.TaskOptions;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A scheduler for running synchronous and asynchronous tasks.
+ * <p>
+ * Besides the {@link Runnable} based methods, the adapter can return {@link CompletableFuture}s carrying the result
+ * of a task, like {@link #supplyAsync(Supplier)}, and continue them on another thread with {@link #thenSync(CompletableFuture, Function)}
+ * and {@link #thenAsync(CompletableFuture, Function)}. Exceptions thrown by these tasks complete the future exceptionally
+ * and are reported to the {@link #exceptionHandler()} of the adapter.
+ * <p>
+ * The delayed and repeating methods have overloads accepting {@link TaskOptions}, like a label the metrics of the task
+ * are grouped by. Implementations that do not support the options ignore them.
+ * <p>
+ * On servers with regionized multithreading, synchronous tasks touching an entity or a location must run on the thread
+ * owning it. The entity and location scoped methods run the task there, while the unscoped synchronous methods run tasks
+ * on the global region. On servers with a single main thread, the scoped methods run the task on the main thread.
+ * The sync thread of {@link #isSyncThread()}, {@link #supplySync(Supplier)} and {@link #thenSync(CompletableFuture, Function)}
+ * is the thread of {@link #sync()}, which is the global region thread with regionized multithreading, not the thread
+ * owning an entity or a location. Whether the current thread owns one is checked by {@link #isSyncThread(Entity)}
+ * and {@link #isSyncThread(Location)}.
+ * <p>
+ * Tasks owned by something like a component or an arena can be scheduled through a {@link #group(String) task group},
+ * which cancels all of them in one call.
  */
 public interface SchedulerAdapter {
 
@@ -70,6 +99,146 @@ public interface SchedulerAdapter {
      */
     @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit);
 
+    /**
+     * Executes the given {@link Runnable task} with a delay synchronously.
+     *
+     * @param task The task to perform.
+     * @param delay The delay before the task is executed.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @param options The {@link TaskOptions} of the task.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        return this.syncLater(task, delay, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} repeatedly synchronously with a given interval.
+     *
+     * @param task The task to perform.
+     * @param initialDelay The initial delay before the repeating sequence starts.
+     * @param sequenceInterval The interval between each repeating sequence.
+     * @param unit The {@link TimeUnit} for the {@param interval}.
+     * @param options The {@link TaskOptions} of the task.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        return this.syncRepeating(task, initialDelay, sequenceInterval, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} with a delay asynchronously.
+     *
+     * @param task The task to perform.
+     * @param delay The delay before the task is executed.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @param options The {@link TaskOptions} of the task.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask asyncLater(@NonNull Runnable task, long delay, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        return this.asyncLater(task, delay, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} repeatedly asynchronously with a given interval.
+     *
+     * @param task The task to perform.
+     * @param initialDelay The initial delay before the repeating sequence starts.
+     * @param sequenceInterval The interval between each repeating sequence.
+     * @param unit The {@link TimeUnit} for the {@param interval}.
+     * @param options The {@link TaskOptions} of the task.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask asyncRepeating(@NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit, @NonNull TaskOptions options) {
+        return this.asyncRepeating(task, initialDelay, sequenceInterval, unit);
+    }
+
+    /**
+     * Performs the input {@link Runnable task} synchronously on the thread owning an entity.
+     *
+     * @param entity The entity the task works with.
+     * @param task The task to perform.
+     */
+    default void executeSync(@NonNull Entity entity, @NonNull Runnable task) {
+        this.executeSync(task);
+    }
+
+    /**
+     * Performs the input {@link Runnable task} synchronously on the thread owning a location.
+     *
+     * @param location The location the task works with.
+     * @param task The task to perform.
+     */
+    default void executeSync(@NonNull Location location, @NonNull Runnable task) {
+        this.executeSync(task);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} with a delay synchronously on the thread owning an entity.
+     * If the entity is removed before the task runs, the task does not run.
+     *
+     * @param entity The entity the task works with.
+     * @param task The task to perform.
+     * @param delay The delay before the task is executed.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncLater(@NonNull Entity entity, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.syncLater(task, delay, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} with a delay synchronously on the thread owning a location.
+     *
+     * @param location The location the task works with.
+     * @param task The task to perform.
+     * @param delay The delay before the task is executed.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncLater(@NonNull Location location, @NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.syncLater(task, delay, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} repeatedly synchronously on the thread owning an entity.
+     * The task stops repeating when the entity is removed.
+     *
+     * @param entity The entity the task works with.
+     * @param task The task to perform.
+     * @param initialDelay The initial delay before the repeating sequence starts.
+     * @param sequenceInterval The interval between each repeating sequence.
+     * @param unit The {@link TimeUnit} for the {@param interval}.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncRepeating(@NonNull Entity entity, @NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        return this.syncRepeating(task, initialDelay, sequenceInterval, unit);
+    }
+
+    /**
+     * Executes the given {@link Runnable task} repeatedly synchronously on the thread owning a location.
+     *
+     * @param location The location the task works with.
+     * @param task The task to perform.
+     * @param initialDelay The initial delay before the repeating sequence starts.
+     * @param sequenceInterval The interval between each repeating sequence.
+     * @param unit The {@link TimeUnit} for the {@param interval}.
+     * @return Instance of the task perform in a {@link SchedulerTask}.
+     */
+    default @NonNull SchedulerTask syncRepeating(@NonNull Location location, @NonNull Runnable task, long initialDelay, long sequenceInterval, @NonNull TimeUnit unit) {
+        return this.syncRepeating(task, initialDelay, sequenceInterval, unit);
+    }
+
+    /**
+     * Creates a new {@link TaskGroup} scheduling its tasks through this adapter.
+     *
+     * @param name The name of the group, like the owner of its tasks.
+     * @return The new task group.
+     */
+    default @NonNull TaskGroup group(@NonNull String name) {
+        return new TaskGroup(name, this);
+    }
+
     /**
      * Shuts down the scheduler used for this adapter.
      */
@@ -97,4 +266,255 @@ public interface SchedulerAdapter {
      * @return An asynchronous {@link Executor} instance.
      */
     @NonNull Executor async();
+
+    /**
+     * Gets the executor for CPU-bound work, like pathfinding or loot generation.
+     * <p>
+     * The executor is separate from {@link #io()}, so a burst of blocking work cannot starve CPU-bound work.
+     * By default, this is the {@link #async()} executor.
+     *
+     * @return An asynchronous {@link Executor} sized to the CPU.
+     */
+    default @NonNull Executor compute() {
+        return this.async();
+    }
+
+    /**
+     * Gets the executor for work blocking on I/O, like file or database access.
+     * <p>
+     * By default, this is the {@link #async()} executor.
+     *
+     * @return An asynchronous {@link Executor} for blocking work.
+     */
+    default @NonNull Executor io() {
+        return this.async();
+    }
+
+    /**
+     * Checks if the current thread is the thread {@link #sync()} runs tasks on. With regionized multithreading,
+     * this is only the global region thread, the threads of the other regions are not the sync thread.
+     *
+     * @return {@code true} if the current thread is the thread {@link #sync()} runs tasks on, {@code false} otherwise.
+     */
+    default boolean isSyncThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Checks if the current thread may work with an entity. By default, this is {@link #isSyncThread()}.
+     *
+     * @param entity The entity to check.
+     * @return {@code true} if the current thread owns the entity, {@code false} otherwise.
+     */
+    default boolean isSyncThread(@NonNull Entity entity) {
+        return this.isSyncThread();
+    }
+
+    /**
+     * Checks if the current thread may work with a location. By default, this is {@link #isSyncThread()}.
+     *
+     * @param location The location to check.
+     * @return {@code true} if the current thread owns the location, {@code false} otherwise.
+     */
+    default boolean isSyncThread(@NonNull Location location) {
+        return this.isSyncThread();
+    }
+
+    /**
+     * Gets the handler exceptions thrown by tasks of the future returning methods are reported to.
+     * <p>
+     * By default, exceptions are passed to the {@link ThreadGroup} of the thread they were thrown in.
+     *
+     * @return The {@link Thread.UncaughtExceptionHandler} of this adapter.
+     */
+    default Thread.@NonNull UncaughtExceptionHandler exceptionHandler() {
+        return (thread, exception) -> thread.getThreadGroup().uncaughtException(thread, exception);
+    }
+
+    /**
+     * Supplies a value asynchronously.
+     *
+     * @param supplier The supplier of the value.
+     * @return A {@link CompletableFuture} completed with the supplied value.
+     * @param <T> The type of the value.
+     */
+    default <T> @NonNull CompletableFuture<T> supplyAsync(@NonNull Supplier<T> supplier) {
+        return this.supply(supplier, this.async());
+    }
+
+    /**
+     * Supplies a value synchronously. If this is called from the sync thread, the value is supplied directly.
+     *
+     * @param supplier The supplier of the value.
+     * @return A {@link CompletableFuture} completed with the supplied value.
+     * @param <T> The type of the value.
+     */
+    default <T> @NonNull CompletableFuture<T> supplySync(@NonNull Supplier<T> supplier) {
+        return this.supply(supplier, this.syncIfNeeded());
+    }
+
+    /**
+     * Performs the input {@link Runnable task} asynchronously.
+     *
+     * @param task The task to perform.
+     * @return A {@link CompletableFuture} completed when the task is done.
+     */
+    default @NonNull CompletableFuture<Void> runAsync(@NonNull Runnable task) {
+        return this.supplyAsync(toSupplier(task));
+    }
+
+    /**
+     * Performs the input {@link Runnable task} synchronously. If this is called from the sync thread, the task is performed directly.
+     *
+     * @param task The task to perform.
+     * @return A {@link CompletableFuture} completed when the task is done.
+     */
+    default @NonNull CompletableFuture<Void> runSync(@NonNull Runnable task) {
+        return this.supplySync(toSupplier(task));
+    }
+
+    /**
+     * Supplies a value asynchronously after a delay. Cancelling the returned future cancels the scheduled task.
+     *
+     * @param supplier The supplier of the value.
+     * @param delay The delay before the value is supplied.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @return A {@link CompletableFuture} completed with the supplied value.
+     * @param <T> The type of the value.
+     */
+    default <T> @NonNull CompletableFuture<T> delayed(@NonNull Supplier<T> supplier, long delay, @NonNull TimeUnit unit) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final SchedulerTask task = this.asyncLater(() -> this.complete(future, supplier), delay, unit);
+        future.whenComplete((value, exception) -> {
+            if (future.isCancelled()) {
+                task.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Supplies a value synchronously after a delay. Cancelling the returned future cancels the scheduled task.
+     *
+     * @param supplier The supplier of the value.
+     * @param delay The delay before the value is supplied.
+     * @param unit The {@link TimeUnit} to use for the {@param delay}.
+     * @return A {@link CompletableFuture} completed with the supplied value.
+     * @param <T> The type of the value.
+     */
+    default <T> @NonNull CompletableFuture<T> delayedSync(@NonNull Supplier<T> supplier, long delay, @NonNull TimeUnit unit) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final SchedulerTask task = this.syncLater(() -> this.complete(future, supplier), delay, unit);
+        future.whenComplete((value, exception) -> {
+            if (future.isCancelled()) {
+                task.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Continues a future on the sync thread. If the future completes on the sync thread, the function is applied
+     * directly without waiting for the next tick.
+     *
+     * @param future The future to continue.
+     * @param function The function to apply to the result of the future.
+     * @return A {@link CompletableFuture} completed with the result of the function.
+     * @param <T> The type of the result of the future.
+     * @param <R> The type of the result of the function.
+     */
+    default <T, R> @NonNull CompletableFuture<R> thenSync(@NonNull CompletableFuture<T> future, @NonNull Function<? super T, ? extends R> function) {
+        return future.thenApplyAsync(this.reporting(function), this.syncIfNeeded());
+    }
+
+    /**
+     * Continues a future asynchronously. If the future completes on any other thread than the sync thread,
+     * the function is applied directly on that thread.
+     *
+     * @param future The future to continue.
+     * @param function The function to apply to the result of the future.
+     * @return A {@link CompletableFuture} completed with the result of the function.
+     * @param <T> The type of the result of the future.
+     * @param <R> The type of the result of the function.
+     */
+    default <T, R> @NonNull CompletableFuture<R> thenAsync(@NonNull CompletableFuture<T> future, @NonNull Function<? super T, ? extends R> function) {
+        return future.thenApplyAsync(this.reporting(function), runnable -> {
+            if (this.isSyncThread()) {
+                this.async().execute(runnable);
+            } else {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * Waits for a future to complete on the current thread.
+     * <p>
+     * Implementations keep running the tasks handed to {@link #sync()} while waiting on the sync thread where they can,
+     * so the future may depend on work continued with {@link #thenSync(CompletableFuture, Function)} or
+     * {@link #supplySync(Supplier)}. By default, this waits without running any tasks.
+     *
+     * @param future The future to wait for.
+     * @param timeout The maximum time to wait.
+     * @param unit The {@link TimeUnit} of the {@param timeout}.
+     * @return The result of the future.
+     * @param <T> The type of the result of the future.
+     * @throws ExecutionException If the future completed exceptionally.
+     * @throws TimeoutException If the future did not complete within the timeout.
+     * @throws InterruptedException If the current thread was interrupted while waiting.
+     */
+    default <T> T await(@NonNull CompletableFuture<T> future, long timeout, @NonNull TimeUnit unit) throws ExecutionException, TimeoutException, InterruptedException {
+        return future.get(timeout, unit);
+    }
+
+    private @NonNull Executor syncIfNeeded() {
+        return runnable -> {
+            if (this.isSyncThread()) {
+                runnable.run();
+            } else {
+                this.sync().execute(runnable);
+            }
+        };
+    }
+
+    private <T> @NonNull CompletableFuture<T> supply(@NonNull Supplier<T> supplier, @NonNull Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> this.complete(future, supplier));
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private <T> void complete(@NonNull CompletableFuture<T> future, @NonNull Supplier<T> supplier) {
+        if (future.isDone()) {
+            return;
+        }
+
+        try {
+            future.complete(supplier.get());
+        } catch (Throwable throwable) {
+            this.exceptionHandler().uncaughtException(Thread.currentThread(), throwable);
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    private <T, R> @NonNull Function<T, R> reporting(@NonNull Function<? super T, ? extends R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (RuntimeException | Error exception) {
+                this.exceptionHandler().uncaughtException(Thread.currentThread(), exception);
+                throw exception;
+            }
+        };
+    }
+
+    private static @NonNull Supplier<Void> toSupplier(@NonNull Runnable task) {
+        return () -> {
+            task.run();
+            return null;
+        };
+    }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.github.liamdev06.scheduler.interfaces;
 
 /**
  * Represents a scheduled task.
+ * <p>
+ * Tasks returned by the adapters of this framework track their runs. Tasks that do not, report the defaults of this interface.
  */
 @FunctionalInterface
 public interface SchedulerTask {
@@ -11,4 +13,33 @@ public interface SchedulerTask {
      */
     void cancel();
 
+    /**
+     * @return {@code true} if this task has been cancelled, {@code false} otherwise or if this task does not track it.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * @return How many times this task has run, or {@code 0} if this task does not track it.
+     */
+    default long getRunCount() {
+        return 0;
+    }
+
+    /**
+     * @return How long the last run of this task took in nanoseconds, or {@code 0} if this task does not track it.
+     */
+    default long getLastDurationNanos() {
+        return 0;
+    }
+
+    /**
+     * @return How many runs of this task were skipped because the previous run had not finished,
+     *         or {@code 0} if this task does not track it.
+     * @see com.github.liamdev06.scheduler.repeat.RepeatPolicy
+     */
+    default long getSkippedRunCount() {
+        return 0;
+    }
 }
\ No newline at end of file
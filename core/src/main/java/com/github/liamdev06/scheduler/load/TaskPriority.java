@@ -0,0 +1,22 @@
+package com.github.liamdev06.scheduler.load;
+
+/**
+ * Priority of a repeating task, deciding how the task is shed by the {@link TickMonitor} while the server is over its tick budget.
+ */
+public enum TaskPriority {
+
+    /**
+     * The task always runs at its interval.
+     */
+    NORMAL,
+
+    /**
+     * The interval of the task is stretched while the server is over budget, only every few runs are run.
+     */
+    LOW,
+
+    /**
+     * The task is skipped while the server is over budget.
+     */
+    BACKGROUND
+}
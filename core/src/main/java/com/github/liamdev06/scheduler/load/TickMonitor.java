@@ -0,0 +1,138 @@
+package com.github.liamdev06.scheduler.load;
+
+import com.github.liamdev06.scheduler.SchedulerSettings;
+import org.bukkit.Server;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the milliseconds per tick of the server and decides if low priority repeating tasks may run.
+ * <p>
+ * The monitor is sampled on the main thread, reading the average tick time and the recent tick times from the server.
+ * Once the average exceeds the {@link SchedulerSettings#getMsptBudget() budget}, the server is considered overloaded until
+ * the average drops below the {@link SchedulerSettings#getRecoverMspt() recovery threshold}. While overloaded, runs of
+ * {@link TaskPriority#LOW} tasks are stretched to every {@link SchedulerSettings#getStretchFactor() few} runs and runs of
+ * {@link TaskPriority#BACKGROUND} tasks are skipped. Every shed run is counted.
+ */
+public class TickMonitor implements Runnable {
+
+    private final @NonNull Server server;
+    private final @NonNull Logger logger;
+    private final double msptBudget;
+    private final double recoverMspt;
+    private final int stretchFactor;
+    private final @NonNull LongAdder stretchedRuns;
+    private final @NonNull LongAdder skippedRuns;
+    private volatile boolean overloaded;
+    private volatile double averageMspt;
+    private volatile double peakMspt;
+    private volatile long overloadEpisodes;
+
+    /**
+     * @param server The server to read the tick times from.
+     * @param logger The {@link Logger} to log changes of the overload state with.
+     * @param settings The settings to read the budget, recovery threshold and stretch factor from.
+     */
+    public TickMonitor(@NonNull Server server, @NonNull Logger logger, @NonNull SchedulerSettings settings) {
+        this.server = server;
+        this.logger = logger;
+        this.msptBudget = settings.getMsptBudget();
+        this.recoverMspt = Math.min(settings.getRecoverMspt(), settings.getMsptBudget());
+        this.stretchFactor = settings.getStretchFactor();
+        this.stretchedRuns = new LongAdder();
+        this.skippedRuns = new LongAdder();
+    }
+
+    /**
+     * Samples the tick times of the server, must only be called from the main thread.
+     */
+    @Override
+    public void run() {
+        final double average = this.server.getAverageTickTime();
+        long peak = 0;
+        for (long tickTime : this.server.getTickTimes()) {
+            peak = Math.max(peak, tickTime);
+        }
+        this.averageMspt = average;
+        this.peakMspt = peak / 1_000_000D;
+
+        if (!this.overloaded && average > this.msptBudget) {
+            this.overloaded = true;
+            this.overloadEpisodes++;
+            this.logger.warn("Average tick time of {}ms exceeds the budget of {}ms, shedding low priority tasks.",
+                    String.format(Locale.ROOT, "%.1f", average), this.msptBudget);
+        } else if (this.overloaded && average < this.recoverMspt) {
+            this.overloaded = false;
+            this.logger.info("Average tick time recovered to {}ms, resuming low priority tasks.", String.format(Locale.ROOT, "%.1f", average));
+        }
+    }
+
+    /**
+     * Decides if a run of a repeating task may run, counting it if it is shed.
+     *
+     * @param priority The priority of the task.
+     * @param attempt The index of the run among all runs of the task that were due.
+     * @return {@code true} if the run may run, {@code false} if it is shed.
+     */
+    public boolean admit(@NonNull TaskPriority priority, long attempt) {
+        if (!this.overloaded || priority == TaskPriority.NORMAL) {
+            return true;
+        }
+
+        if (priority == TaskPriority.LOW && attempt % this.stretchFactor == 0) {
+            return true;
+        }
+
+        if (priority == TaskPriority.LOW) {
+            this.stretchedRuns.increment();
+        } else {
+            this.skippedRuns.increment();
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the server is currently over its tick budget, {@code false} otherwise.
+     */
+    public boolean isOverloaded() {
+        return this.overloaded;
+    }
+
+    /**
+     * @return The average milliseconds per tick at the last sample.
+     */
+    public double getAverageMspt() {
+        return this.averageMspt;
+    }
+
+    /**
+     * @return The longest recent tick in milliseconds at the last sample.
+     */
+    public double getPeakMspt() {
+        return this.peakMspt;
+    }
+
+    /**
+     * @return How many times the server went over its tick budget.
+     */
+    public long getOverloadEpisodes() {
+        return this.overloadEpisodes;
+    }
+
+    /**
+     * @return How many runs of {@link TaskPriority#LOW} tasks were left out to stretch their interval.
+     */
+    public long getStretchedRuns() {
+        return this.stretchedRuns.sum();
+    }
+
+    /**
+     * @return How many runs of {@link TaskPriority#BACKGROUND} tasks were skipped.
+     */
+    public long getSkippedRuns() {
+        return this.skippedRuns.sum();
+    }
+}
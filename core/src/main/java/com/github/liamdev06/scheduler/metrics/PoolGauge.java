@@ -0,0 +1,22 @@
+package com.github.liamdev06.scheduler.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Snapshot of how saturated a pool or queue of a scheduler adapter is.
+ *
+ * @param name Name of the pool.
+ * @param poolSize Amount of threads in the pool.
+ * @param activeThreads Amount of threads currently running a task.
+ * @param queuedTasks Amount of tasks waiting to run.
+ * @param remainingCapacity Amount of tasks the queue can take before tasks are rejected, or {@code -1} if it is unbounded.
+ */
+public record PoolGauge(@NonNull String name, int poolSize, int activeThreads, long queuedTasks, long remainingCapacity) {
+
+    /**
+     * @return Share of the threads that are currently running a task, between {@code 0} and {@code 1}.
+     */
+    public double getUtilization() {
+        return this.poolSize == 0 ? 0 : (double) this.activeThreads / this.poolSize;
+    }
+}
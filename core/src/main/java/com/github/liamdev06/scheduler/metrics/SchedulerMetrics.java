@@ -0,0 +1,61 @@
+package com.github.liamdev06.scheduler.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link TaskMetrics} of a scheduler adapter by task label.
+ */
+public class SchedulerMetrics {
+
+    private final boolean enabled;
+    private final @NonNull Map<String, TaskMetrics> metrics;
+
+    /**
+     * @param enabled If metrics are collected, when {@code false} no {@link TaskMetrics} are created.
+     */
+    public SchedulerMetrics(boolean enabled) {
+        this.enabled = enabled;
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the metrics of a label, creating them the first time the label is used.
+     *
+     * @param label The label of the tasks.
+     * @return The metrics of the label, or {@code null} if metrics are disabled.
+     */
+    public @Nullable TaskMetrics getOrCreate(@NonNull String label) {
+        if (!this.enabled) {
+            return null;
+        }
+        return this.metrics.computeIfAbsent(label, TaskMetrics::new);
+    }
+
+    /**
+     * @param label The label of the tasks.
+     * @return The metrics of the label, or {@code null} if no task has been scheduled with it.
+     */
+    public @Nullable TaskMetrics get(@NonNull String label) {
+        return this.metrics.get(label);
+    }
+
+    /**
+     * @return Unmodifiable view of the metrics of every label.
+     */
+    public @NonNull Collection<TaskMetrics> getAll() {
+        return Collections.unmodifiableCollection(this.metrics.values());
+    }
+
+    /**
+     * @return {@code true} if metrics are collected, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+}
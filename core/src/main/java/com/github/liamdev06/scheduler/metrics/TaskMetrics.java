@@ -0,0 +1,99 @@
+package com.github.liamdev06.scheduler.metrics;
+
+import com.github.liamdev06.utils.java.NanoHistogram;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of all tasks scheduled with the same label.
+ * <p>
+ * The scheduling lag is how much later a run started than it was due, and includes the time the run waited in the
+ * queue of the executor it runs on. The execution time is how long the run itself took.
+ */
+public class TaskMetrics {
+
+    private final @NonNull String label;
+    private final @NonNull NanoHistogram lag;
+    private final @NonNull NanoHistogram execution;
+    private final @NonNull LongAdder skipped;
+    private final @NonNull LongAdder shed;
+
+    public TaskMetrics(@NonNull String label) {
+        this.label = label;
+        this.lag = new NanoHistogram();
+        this.execution = new NanoHistogram();
+        this.skipped = new LongAdder();
+        this.shed = new LongAdder();
+    }
+
+    /**
+     * Records one run of a task.
+     *
+     * @param lagNanos How much later the run started than it was due in nanoseconds.
+     * @param executionNanos How long the run took in nanoseconds.
+     */
+    public void record(long lagNanos, long executionNanos) {
+        this.lag.record(lagNanos);
+        this.execution.record(executionNanos);
+    }
+
+    /**
+     * Records a run that was skipped because the previous run had not finished.
+     */
+    public void recordSkipped() {
+        this.skipped.increment();
+    }
+
+    /**
+     * Records a run that was shed because the server was over its tick budget.
+     */
+    public void recordShed() {
+        this.shed.increment();
+    }
+
+    /**
+     * @return The label of the tasks.
+     */
+    public @NonNull String getLabel() {
+        return this.label;
+    }
+
+    /**
+     * @return Histogram of the scheduling lag of the runs in nanoseconds.
+     */
+    public @NonNull NanoHistogram getLag() {
+        return this.lag;
+    }
+
+    /**
+     * @return Histogram of the execution time of the runs in nanoseconds.
+     */
+    public @NonNull NanoHistogram getExecution() {
+        return this.execution;
+    }
+
+    /**
+     * @return How many runs were skipped because the previous run had not finished.
+     */
+    public long getSkippedCount() {
+        return this.skipped.sum();
+    }
+
+    /**
+     * @return How many runs were shed because the server was over its tick budget.
+     */
+    public long getShedCount() {
+        return this.shed.sum();
+    }
+
+    /**
+     * Clears all collected metrics of the tasks.
+     */
+    public void reset() {
+        this.lag.reset();
+        this.execution.reset();
+        this.skipped.reset();
+        this.shed.reset();
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.liamdev06.scheduler.metrics;
+
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.load.TaskPriority;
+import com.github.liamdev06.scheduler.load.TickMonitor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link SchedulerTask} wrapping the task it schedules, which tracks its runs and records them to {@link TaskMetrics}.
+ * <p>
+ * The wrapper is what is handed to the underlying scheduler. Once scheduled, the handle of the underlying scheduler is
+ * {@link #bind(SchedulerTask) bound} to it, so cancelling the wrapper cancels the scheduled task.
+ * The lag of a run is measured from when the run was due, which is the scheduling time plus the delay for the first run
+ * and the start of the previous run plus the interval for the following runs, or the end of the previous run plus
+ * the interval for tasks with a fixed delay.
+ * <p>
+ * When {@link #shedWith(TickMonitor, TaskPriority) shed} by a {@link TickMonitor}, runs the monitor does not admit
+ * are left out and counted as shed.
+ */
+public class TrackedSchedulerTask implements SchedulerTask, Runnable {
+
+    private final @NonNull Runnable task;
+    private final @Nullable TaskMetrics metrics;
+    private final long intervalNanos;
+    private final boolean fixedDelay;
+    private final @NonNull AtomicLong runCount;
+    private final @NonNull AtomicLong skippedCount;
+    private final @NonNull AtomicLong attempts;
+    private volatile long dueNanos;
+    private volatile long lastDurationNanos;
+    private volatile boolean cancelled;
+    private volatile @Nullable SchedulerTask handle;
+    private @Nullable TickMonitor monitor;
+    private @NonNull TaskPriority priority;
+
+    /**
+     * @param task The task to run.
+     * @param metrics The metrics to record the runs to, or {@code null} to only track the runs.
+     * @param delayNanos The delay before the first run in nanoseconds.
+     * @param intervalNanos The interval between the runs in nanoseconds, or {@code 0} if the task runs once.
+     */
+    public TrackedSchedulerTask(@NonNull Runnable task, @Nullable TaskMetrics metrics, long delayNanos, long intervalNanos) {
+        this(task, metrics, delayNanos, intervalNanos, false);
+    }
+
+    /**
+     * @param task The task to run.
+     * @param metrics The metrics to record the runs to, or {@code null} to only track the runs.
+     * @param delayNanos The delay before the first run in nanoseconds.
+     * @param intervalNanos The interval between the runs in nanoseconds, or {@code 0} if the task runs once.
+     * @param fixedDelay If the interval is counted from the end of a run instead of its start.
+     */
+    public TrackedSchedulerTask(@NonNull Runnable task, @Nullable TaskMetrics metrics, long delayNanos, long intervalNanos, boolean fixedDelay) {
+        this.task = task;
+        this.metrics = metrics;
+        this.intervalNanos = intervalNanos;
+        this.fixedDelay = fixedDelay;
+        this.runCount = new AtomicLong();
+        this.skippedCount = new AtomicLong();
+        this.attempts = new AtomicLong();
+        this.priority = TaskPriority.NORMAL;
+        this.dueNanos = System.nanoTime() + delayNanos;
+    }
+
+    /**
+     * Binds the handle of the underlying scheduler to this task.
+     *
+     * @param handle The {@link SchedulerTask} returned by the underlying scheduler.
+     * @return This task.
+     */
+    public @NonNull TrackedSchedulerTask bind(@NonNull SchedulerTask handle) {
+        this.handle = handle;
+        if (this.cancelled) {
+            handle.cancel();
+        }
+        return this;
+    }
+
+    /**
+     * Lets a {@link TickMonitor} shed the runs of this task while the server is over its tick budget.
+     * Must be called before the task is scheduled.
+     *
+     * @param monitor The monitor deciding if a run may run.
+     * @param priority The priority of this task.
+     * @return This task.
+     */
+    public @NonNull TrackedSchedulerTask shedWith(@NonNull TickMonitor monitor, @NonNull TaskPriority priority) {
+        this.monitor = monitor;
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public void run() {
+        if (this.cancelled) {
+            return;
+        }
+
+        if (this.monitor != null && !this.monitor.admit(this.priority, this.attempts.getAndIncrement())) {
+            this.dueNanos = System.nanoTime() + this.intervalNanos;
+            if (this.metrics != null) {
+                this.metrics.recordShed();
+            }
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final long lag = start - this.dueNanos;
+        this.dueNanos = start + this.intervalNanos;
+        try {
+            this.task.run();
+        } finally {
+            final long end = System.nanoTime();
+            final long duration = end - start;
+            if (this.fixedDelay) {
+                this.dueNanos = end + this.intervalNanos;
+            }
+            this.lastDurationNanos = duration;
+            this.runCount.incrementAndGet();
+            if (this.metrics != null) {
+                this.metrics.record(lag, duration);
+            }
+        }
+    }
+
+    /**
+     * Records a run that was skipped because the previous run had not finished.
+     */
+    public void recordSkipped() {
+        this.skippedCount.incrementAndGet();
+        if (this.metrics != null) {
+            this.metrics.recordSkipped();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        final SchedulerTask handle = this.handle;
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * @return {@code true} if this task or the bound handle has been cancelled, {@code false} otherwise.
+     */
+    @Override
+    public boolean isCancelled() {
+        if (this.cancelled) {
+            return true;
+        }
+
+        final SchedulerTask handle = this.handle;
+        return handle != null && handle.isCancelled();
+    }
+
+    @Override
+    public long getRunCount() {
+        return this.runCount.get();
+    }
+
+    @Override
+    public long getLastDurationNanos() {
+        return this.lastDurationNanos;
+    }
+
+    @Override
+    public long getSkippedRunCount() {
+        return this.skippedCount.get();
+    }
+
+    /**
+     * @return The handle of the underlying scheduler, or {@code null} if it is not bound yet.
+     */
+    public @Nullable SchedulerTask getHandle() {
+        return this.handle;
+    }
+
+    /**
+     * @return The metrics the runs are recorded to, or {@code null} if metrics are disabled.
+     */
+    public @Nullable TaskMetrics getMetrics() {
+        return this.metrics;
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.liamdev06.scheduler.repeat;
+
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeating task following {@link RepeatPolicy#FIXED_DELAY}, which schedules its next run the interval after
+ * the previous run finished.
+ */
+public class FixedDelayTask implements SchedulerTask {
+
+    private final @NonNull Runnable task;
+    private final @NonNull Executor executor;
+    private final @NonNull Timer timer;
+    private final long intervalNanos;
+    private volatile boolean cancelled;
+    private volatile @Nullable SchedulerTask next;
+
+    /**
+     * @param task The task to run.
+     * @param executor The executor to run the task on.
+     * @param timer The timer scheduling the runs.
+     * @param intervalNanos The delay between the end of a run and the start of the next run in nanoseconds.
+     */
+    public FixedDelayTask(@NonNull Runnable task, @NonNull Executor executor, @NonNull Timer timer, long intervalNanos) {
+        this.task = task;
+        this.executor = executor;
+        this.timer = timer;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Schedules the first run.
+     *
+     * @param initialDelayNanos The delay before the first run in nanoseconds.
+     * @return This task.
+     */
+    public @NonNull FixedDelayTask start(long initialDelayNanos) {
+        this.scheduleNext(initialDelayNanos);
+        return this;
+    }
+
+    private void scheduleNext(long delayNanos) {
+        if (this.cancelled) {
+            return;
+        }
+
+        this.next = this.timer.schedule(() -> this.executor.execute(this::runTask), delayNanos, TimeUnit.NANOSECONDS);
+        if (this.cancelled) {
+            this.cancel();
+        }
+    }
+
+    private void runTask() {
+        if (this.cancelled) {
+            return;
+        }
+
+        try {
+            this.task.run();
+        } finally {
+            this.scheduleNext(this.intervalNanos);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        final SchedulerTask next = this.next;
+        if (next != null) {
+            next.cancel();
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Schedules a single run of a task.
+     */
+    @FunctionalInterface
+    public interface Timer {
+
+        /**
+         * @param task The task to run once.
+         * @param delay The delay before the task is run.
+         * @param unit The {@link TimeUnit} of the {@code delay}.
+         * @return The scheduled task.
+         */
+        @NonNull SchedulerTask schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.liamdev06.scheduler.repeat;
+
+import com.github.liamdev06.scheduler.metrics.TrackedSchedulerTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trigger of a repeating task that hands the task to an executor without letting its runs overlap,
+ * following {@link RepeatPolicy#SKIP_MISSED} or {@link RepeatPolicy#COALESCE}.
+ * <p>
+ * The scheduler calls {@link #run()} at the fixed rate of the task. A run that is due while the previous run is still
+ * running is either skipped, or remembered and started once the previous run finishes. Every skipped run is
+ * {@link TrackedSchedulerTask#recordSkipped() recorded} to the task.
+ */
+public class OverrunGuard implements Runnable {
+
+    private static final int IDLE = 0;
+    private static final int RUNNING = 1;
+    private static final int RUNNING_PENDING = 2;
+
+    private final @NonNull TrackedSchedulerTask task;
+    private final @NonNull Executor executor;
+    private final boolean coalesce;
+    private final @NonNull AtomicInteger state;
+
+    /**
+     * @param task The task to run.
+     * @param executor The executor to run the task on.
+     * @param policy Either {@link RepeatPolicy#SKIP_MISSED} or {@link RepeatPolicy#COALESCE}.
+     */
+    public OverrunGuard(@NonNull TrackedSchedulerTask task, @NonNull Executor executor, @NonNull RepeatPolicy policy) {
+        if (policy != RepeatPolicy.SKIP_MISSED && policy != RepeatPolicy.COALESCE) {
+            throw new IllegalArgumentException("An overrun guard does not support the repeat policy " + policy);
+        }
+
+        this.task = task;
+        this.executor = executor;
+        this.coalesce = policy == RepeatPolicy.COALESCE;
+        this.state = new AtomicInteger(IDLE);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            final int state = this.state.get();
+            if (state == IDLE) {
+                if (this.state.compareAndSet(IDLE, RUNNING)) {
+                    this.submit();
+                    return;
+                }
+            } else if (state == RUNNING && this.coalesce) {
+                if (this.state.compareAndSet(RUNNING, RUNNING_PENDING)) {
+                    return;
+                }
+            } else {
+                this.task.recordSkipped();
+                return;
+            }
+        }
+    }
+
+    private void submit() {
+        try {
+            this.executor.execute(this::runTask);
+        } catch (RuntimeException exception) {
+            this.state.set(IDLE);
+            throw exception;
+        }
+    }
+
+    private void runTask() {
+        try {
+            this.task.run();
+        } finally {
+            if (!this.state.compareAndSet(RUNNING, IDLE)) {
+                // A run was coalesced while this one was running, start it right away
+                this.state.set(RUNNING);
+                this.submit();
+            }
+        }
+    }
+}
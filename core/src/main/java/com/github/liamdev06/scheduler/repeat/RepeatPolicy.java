@@ -0,0 +1,31 @@
+package com.github.liamdev06.scheduler.repeat;
+
+/**
+ * Policy deciding what happens when a run of an asynchronous repeating task takes longer than its interval.
+ * <p>
+ * Synchronous tasks run one at a time on the main thread, so they never overlap and are not affected by the policy.
+ */
+public enum RepeatPolicy {
+
+    /**
+     * Every run is started at its fixed rate, even if the previous run has not finished yet.
+     * Runs of the same task may run at the same time.
+     */
+    ALLOW_OVERLAP,
+
+    /**
+     * Runs that are due while the previous run has not finished are skipped.
+     */
+    SKIP_MISSED,
+
+    /**
+     * Runs that are due while the previous run has not finished are merged into one run that starts as soon as the
+     * previous run finishes.
+     */
+    COALESCE,
+
+    /**
+     * The next run is scheduled the interval after the previous run finished, instead of at a fixed rate.
+     */
+    FIXED_DELAY
+}
@@ -0,0 +1,186 @@
+package com.github.liamdev06.scheduler.stall;
+
+import com.github.liamdev06.utils.java.TimeFormatter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Detects framework tasks stalling the main thread and reports where they spend their time.
+ * <p>
+ * Tasks run on the main thread are {@link #wrap(String, Runnable) wrapped}, so the identifier and start time of the
+ * running task are published with two field writes. A daemon thread polls them and, once the running task exceeds the
+ * threshold, samples the stack of the main thread at every interval. When the task finishes, or has stalled for
+ * {@link #REPORT_AFTER_NANOS a long time}, the samples are logged as a condensed flame-style report of collapsed stacks.
+ * The main thread is never interrupted or inspected while no task exceeds the threshold.
+ */
+public class StallDetector implements AutoCloseable {
+
+    private static final @NonNull String THREAD_NAME = "liam-tools-stall-detector";
+    private static final long REPORT_AFTER_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_DEPTH = 16;
+    private static final int MAX_STACKS = 5;
+
+    private final @NonNull Logger logger;
+    private final @NonNull Thread mainThread;
+    private final long thresholdNanos;
+    private final long intervalNanos;
+    private final @NonNull Map<String, Integer> samples;
+    private final @NonNull Thread sampler;
+    private volatile boolean running;
+
+    // Written by the main thread, read by the sampler
+    private volatile @Nullable String label;
+    private volatile long enteredNanos;
+
+    // Only accessed by the sampler
+    private long sampledEntry;
+    private @Nullable String sampledLabel;
+    private int sampleCount;
+    private boolean reported;
+
+    /**
+     * @param logger The {@link Logger} to log the reports with.
+     * @param mainThread The thread the wrapped tasks run on.
+     * @param threshold How long a task may run before its stack is sampled.
+     * @param interval The interval between the samples.
+     * @param unit The {@link TimeUnit} of the {@code threshold} and {@code interval}.
+     */
+    public StallDetector(@NonNull Logger logger, @NonNull Thread mainThread, long threshold, long interval, @NonNull TimeUnit unit) {
+        this.logger = logger;
+        this.mainThread = mainThread;
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.intervalNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), unit.toNanos(interval));
+        this.samples = new HashMap<>();
+        this.sampler = new Thread(this::sample, THREAD_NAME);
+        this.sampler.setDaemon(true);
+    }
+
+    /**
+     * Starts the sampler thread.
+     */
+    public void start() {
+        this.running = true;
+        this.sampler.start();
+    }
+
+    /**
+     * Wraps a task run on the main thread, so the detector knows which task is running.
+     *
+     * @param label The identifier of the task to name in reports.
+     * @param task The task to wrap.
+     * @return The wrapped task.
+     */
+    public @NonNull Runnable wrap(@NonNull String label, @NonNull Runnable task) {
+        return () -> {
+            this.label = label;
+            this.enteredNanos = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                this.enteredNanos = 0;
+            }
+        };
+    }
+
+    private void sample() {
+        while (this.running) {
+            LockSupport.parkNanos(this.intervalNanos);
+
+            final long entered = this.enteredNanos;
+            if (entered != this.sampledEntry) {
+                this.finishSampling();
+            }
+            if (entered == 0 || System.nanoTime() - entered < this.thresholdNanos) {
+                continue;
+            }
+
+            if (this.sampledEntry == 0) {
+                this.sampledEntry = entered;
+                this.sampledLabel = this.label;
+            }
+
+            final StackTraceElement[] stack = this.mainThread.getStackTrace();
+            // The task may have finished while the stack was taken
+            if (this.enteredNanos != entered) {
+                continue;
+            }
+
+            this.samples.merge(collapse(stack), 1, Integer::sum);
+            this.sampleCount++;
+            if (!this.reported && System.nanoTime() - entered >= REPORT_AFTER_NANOS) {
+                this.reported = true;
+                this.report(System.nanoTime() - entered, true);
+            }
+        }
+    }
+
+    private void finishSampling() {
+        if (this.sampledEntry != 0 && this.sampleCount > 0) {
+            this.report(System.nanoTime() - this.sampledEntry, false);
+        }
+        this.samples.clear();
+        this.sampleCount = 0;
+        this.sampledEntry = 0;
+        this.sampledLabel = null;
+        this.reported = false;
+    }
+
+    private void report(long stalledNanos, boolean ongoing) {
+        final List<Map.Entry<String, Integer>> stacks = new ArrayList<>(this.samples.entrySet());
+        stacks.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        final StringBuilder report = new StringBuilder()
+                .append("Task '").append(this.sampledLabel).append("' ")
+                .append(ongoing ? "has been stalling" : "stalled")
+                .append(" the main thread for ").append(TimeFormatter.formatNanosToMillis(stalledNanos))
+                .append(" (").append(this.sampleCount).append(" samples). Collapsed stacks by samples:");
+        for (int i = 0; i < Math.min(MAX_STACKS, stacks.size()); i++) {
+            final Map.Entry<String, Integer> stack = stacks.get(i);
+            report.append("\n  ").append(stack.getValue()).append(' ').append(stack.getKey());
+        }
+        this.logger.warn(report.toString());
+    }
+
+    /**
+     * Collapses a stack into the frames above the task wrapper, ordered from the root to the leaf and separated by {@code ;}.
+     */
+    private static @NonNull String collapse(@NonNull StackTraceElement[] stack) {
+        int end = stack.length;
+        for (int i = 0; i < stack.length; i++) {
+            if (stack[i].getClassName().startsWith(StallDetector.class.getName())) {
+                end = i;
+                break;
+            }
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = Math.min(end, MAX_DEPTH) - 1; i >= 0; i--) {
+            final StackTraceElement frame = stack[i];
+            final String className = frame.getClassName();
+            builder.append(className.substring(className.lastIndexOf('.') + 1))
+                    .append('.').append(frame.getMethodName())
+                    .append(':').append(frame.getLineNumber());
+            if (i > 0) {
+                builder.append(';');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Stops the sampler thread.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.sampler);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.liamdev06.scheduler.tick;
+
+/**
+ * A repeating task that splits its work across ticks to stay within a time budget.
+ * <p>
+ * The {@link TickDriver} calls the task with the deadline of its budget, and the task is expected to check
+ * {@link System#nanoTime()} against it while working, for example after every processed element.
+ */
+@FunctionalInterface
+public interface BudgetedTask {
+
+    /**
+     * Performs work until it is done or the deadline is reached.
+     *
+     * @param deadlineNanos The {@link System#nanoTime()} value at which the task should stop and continue next tick.
+     * @return {@code true} if the work of this run is done, {@code false} if it should continue in the next tick.
+     */
+    boolean run(long deadlineNanos);
+}
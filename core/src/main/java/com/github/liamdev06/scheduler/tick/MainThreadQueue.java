@@ -0,0 +1,221 @@
+package com.github.liamdev06.scheduler.tick;
+
+import com.github.liamdev06.utils.java.NanoHistogram;
+import com.github.liamdev06.utils.java.TimeFormatter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lock-free queue of tasks handed to the main thread, drained once per tick under a time budget.
+ * <p>
+ * Any thread can {@link #execute(Runnable) submit} tasks without a Bukkit task being created for each of them.
+ * A single task calls {@link #run()} every tick, which runs queued tasks until the queue is empty or the budget is spent.
+ * Tasks left in the queue spill over into the next tick, which is logged as a warning at most once per
+ * {@link #WARNING_INTERVAL_NANOS warning interval}.
+ * <p>
+ * Once {@link #shutdown(BooleanSupplier) shut down}, no tick drains the queue anymore. Tasks submitted from then on run
+ * directly when submitted on the main thread and are rejected with a {@link RejectedExecutionException} otherwise.
+ */
+public class MainThreadQueue implements Executor, Runnable {
+
+    private static final long WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final @NonNull Logger logger;
+    private final long budgetNanos;
+    private final @NonNull Queue<Entry> queue;
+    private final @NonNull AtomicInteger depth;
+    private final @NonNull NanoHistogram waitTimes;
+    private final @NonNull LongAdder executed;
+    private final @NonNull LongAdder spilledTicks;
+    private int maxDepth;
+    private long lastWarning;
+    private @Nullable BooleanSupplier mainThreadCheck;
+    private volatile boolean shutdown;
+
+    /**
+     * @param logger The {@link Logger} to log failing tasks and spill warnings with.
+     * @param budget The time the queue may spend running tasks per tick.
+     * @param unit The {@link TimeUnit} of the {@code budget}.
+     */
+    public MainThreadQueue(@NonNull Logger logger, long budget, @NonNull TimeUnit unit) {
+        this.logger = logger;
+        this.budgetNanos = Math.max(1, unit.toNanos(budget));
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.depth = new AtomicInteger();
+        this.waitTimes = new NanoHistogram();
+        this.executed = new LongAdder();
+        this.spilledTicks = new LongAdder();
+        this.lastWarning = System.nanoTime() - WARNING_INTERVAL_NANOS;
+    }
+
+    /**
+     * Queues a task to run on the main thread in the next tick, or a later tick if the queue is behind.
+     *
+     * @param task The task to run.
+     * @throws RejectedExecutionException If the queue is shut down and this is not called from the main thread.
+     */
+    @Override
+    public void execute(@NonNull Runnable task) {
+        if (this.shutdown) {
+            this.runAfterShutdown(task);
+            return;
+        }
+
+        final Entry entry = new Entry(task, System.nanoTime());
+        this.queue.add(entry);
+        this.depth.incrementAndGet();
+
+        // The queue may have been shut down and drained while adding, take the task back so it is not left behind
+        if (this.shutdown && this.queue.remove(entry)) {
+            this.depth.decrementAndGet();
+            this.runAfterShutdown(task);
+        }
+    }
+
+    private void runAfterShutdown(@NonNull Runnable task) {
+        final BooleanSupplier mainThreadCheck = this.mainThreadCheck;
+        if (mainThreadCheck == null || !mainThreadCheck.getAsBoolean()) {
+            throw new RejectedExecutionException("The main thread queue is shut down, tasks can only be run on the main thread.");
+        }
+        this.executed.increment();
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            this.logger.error("A task run on the main thread queue threw an exception.", throwable);
+        }
+    }
+
+    /**
+     * Runs queued tasks until the queue is empty or the budget of this tick is spent, must only be called from the main thread.
+     */
+    @Override
+    public void run() {
+        final long timeAtStart = System.nanoTime();
+        final long deadline = timeAtStart + this.budgetNanos;
+        this.maxDepth = Math.max(this.maxDepth, this.depth.get());
+
+        Entry entry;
+        long now = timeAtStart;
+        while (now < deadline && (entry = this.queue.poll()) != null) {
+            this.runEntry(entry, now);
+            now = System.nanoTime();
+        }
+
+        final int remaining = this.depth.get();
+        if (remaining > 0 && now >= deadline) {
+            this.spilledTicks.increment();
+            if (now - this.lastWarning >= WARNING_INTERVAL_NANOS) {
+                this.lastWarning = now;
+                this.logger.warn("The main thread queue used its budget of {} and spilled {} tasks into the next tick.",
+                        TimeFormatter.formatNanosToMillis(this.budgetNanos), remaining);
+            }
+        }
+    }
+
+    /**
+     * Shuts the queue down, after which tasks are no longer queued. Must be called once nothing submits work from other
+     * threads anymore, like after the executors have terminated.
+     * <p>
+     * The tasks left in the queue are run if this is called from the main thread. Otherwise, they cannot be run safely
+     * and are logged as lost instead.
+     *
+     * @param mainThreadCheck Checks if the current thread is the main thread.
+     */
+    public void shutdown(@NonNull BooleanSupplier mainThreadCheck) {
+        this.mainThreadCheck = mainThreadCheck;
+        this.shutdown = true;
+
+        if (mainThreadCheck.getAsBoolean()) {
+            this.drainAll();
+            return;
+        }
+
+        final int remaining = this.depth.get();
+        if (remaining > 0) {
+            this.logger.error("The main thread queue was shut down off the main thread, {} queued tasks were not run.", remaining);
+        }
+    }
+
+    /**
+     * @return {@code true} if the queue has been shut down, {@code false} otherwise.
+     */
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    /**
+     * Runs all queued tasks regardless of the budget, used when waiting on the main thread or shutting down so no queued work is lost.
+     */
+    public void drainAll() {
+        Entry entry;
+        while ((entry = this.queue.poll()) != null) {
+            this.runEntry(entry, System.nanoTime());
+        }
+    }
+
+    private void runEntry(@NonNull Entry entry, long now) {
+        this.depth.decrementAndGet();
+        this.waitTimes.record(now - entry.enqueuedNanos());
+        this.executed.increment();
+
+        try {
+            entry.task().run();
+        } catch (Throwable throwable) {
+            this.logger.error("A task run on the main thread queue threw an exception.", throwable);
+        }
+    }
+
+    /**
+     * @return Amount of tasks currently waiting in the queue.
+     */
+    public int getDepth() {
+        return this.depth.get();
+    }
+
+    /**
+     * @return The deepest the queue has been at the start of a tick.
+     */
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * @return Histogram of how long tasks waited in the queue before they ran, in nanoseconds.
+     */
+    public @NonNull NanoHistogram getWaitTimes() {
+        return this.waitTimes;
+    }
+
+    /**
+     * @return How many tasks the queue has run.
+     */
+    public long getExecutedCount() {
+        return this.executed.sum();
+    }
+
+    /**
+     * @return How many ticks spent their whole budget and left tasks for the next tick.
+     */
+    public long getSpilledTicks() {
+        return this.spilledTicks.sum();
+    }
+
+    /**
+     * @return The time the queue may spend running tasks per tick in nanoseconds.
+     */
+    public long getBudgetNanos() {
+        return this.budgetNanos;
+    }
+
+    private record Entry(@NonNull Runnable task, long enqueuedNanos) { }
+}
@@ -0,0 +1,226 @@
+package com.github.liamdev06.scheduler.tick;
+
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs all synchronous repeating tasks of the framework from a single task that is called once every tick.
+ * <p>
+ * The tasks are kept in a compact array that is scanned once per tick. Adding and cancelling a task can be done from any
+ * thread and only enqueues the change, which the driver applies at the start of the next tick. Cancelled tasks are removed
+ * by swapping the last task into their slot, so removal takes constant time.
+ * <p>
+ * A task scheduled with a budget is a {@link BudgetedTask} that stops when its budget is spent and continues in the next tick,
+ * so a large amount of work is spread over several ticks instead of extending one of them.
+ */
+public class TickDriver implements Runnable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final @NonNull Logger logger;
+    private final @NonNull Queue<TickTask> pendingAdditions;
+    private final @NonNull Queue<TickTask> pendingRemovals;
+    private @NonNull TickTask[] tasks;
+    private int size;
+    private volatile long currentTick;
+
+    /**
+     * @param logger The {@link Logger} to log exceptions thrown by the tasks with.
+     */
+    public TickDriver(@NonNull Logger logger) {
+        this.logger = logger;
+        this.pendingAdditions = new ConcurrentLinkedQueue<>();
+        this.pendingRemovals = new ConcurrentLinkedQueue<>();
+        this.tasks = new TickTask[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Schedules a repeating task.
+     *
+     * @param task The task to run.
+     * @param initialDelayTicks Ticks before the first run, the task runs in the next tick at the earliest.
+     * @param intervalTicks Ticks between the runs, at least 1.
+     * @return The scheduled {@link TickTask}.
+     */
+    public @NonNull TickTask schedule(@NonNull Runnable task, long initialDelayTicks, long intervalTicks) {
+        return this.schedule(deadline -> {
+            task.run();
+            return true;
+        }, initialDelayTicks, intervalTicks, 0);
+    }
+
+    /**
+     * Schedules a repeating task with a time budget per tick.
+     *
+     * @param task The task to run.
+     * @param initialDelayTicks Ticks before the first run, the task runs in the next tick at the earliest.
+     * @param intervalTicks Ticks between the start of the runs, at least 1.
+     * @param budgetNanos The time the task may spend per tick in nanoseconds, or {@code 0} for no budget.
+     * @return The scheduled {@link TickTask}.
+     */
+    public @NonNull TickTask schedule(@NonNull BudgetedTask task, long initialDelayTicks, long intervalTicks, long budgetNanos) {
+        final TickTask tickTask = new TickTask(this, task, Math.max(0, initialDelayTicks), Math.max(1, intervalTicks), Math.max(0, budgetNanos));
+        this.pendingAdditions.add(tickTask);
+        return tickTask;
+    }
+
+    /**
+     * Runs one tick, must only be called from the thread that ticks this driver.
+     */
+    @Override
+    public void run() {
+        final long tick = this.currentTick + 1;
+        this.currentTick = tick;
+
+        this.applyPendingRemovals();
+        this.applyPendingAdditions(tick);
+
+        final TickTask[] tasks = this.tasks;
+        final int size = this.size;
+        for (int i = 0; i < size; i++) {
+            final TickTask task = tasks[i];
+            if (!task.cancelled && task.nextRunTick <= tick) {
+                this.runTask(task, tick);
+            }
+        }
+    }
+
+    private void runTask(@NonNull TickTask task, long tick) {
+        if (!task.continuing) {
+            task.cycleStartTick = tick;
+        }
+
+        boolean done = true;
+        try {
+            final long deadline = task.budgetNanos > 0 ? System.nanoTime() + task.budgetNanos : Long.MAX_VALUE;
+            done = task.task.run(deadline);
+        } catch (Throwable throwable) {
+            this.logger.error("A repeating task run by the tick driver threw an exception.", throwable);
+        }
+
+        task.continuing = !done;
+        task.nextRunTick = done ? Math.max(task.cycleStartTick + task.intervalTicks, tick + 1) : tick + 1;
+    }
+
+    private void applyPendingAdditions(long tick) {
+        TickTask task;
+        while ((task = this.pendingAdditions.poll()) != null) {
+            if (task.cancelled) {
+                continue;
+            }
+
+            if (this.size == this.tasks.length) {
+                this.tasks = Arrays.copyOf(this.tasks, this.size * 2);
+            }
+            task.index = this.size;
+            task.nextRunTick = tick + Math.max(0, task.initialDelayTicks - 1);
+            this.tasks[this.size++] = task;
+        }
+    }
+
+    private void applyPendingRemovals() {
+        TickTask task;
+        while ((task = this.pendingRemovals.poll()) != null) {
+            final int index = task.index;
+            if (index < 0 || index >= this.size || this.tasks[index] != task) {
+                continue;
+            }
+
+            final int last = --this.size;
+            final TickTask moved = this.tasks[last];
+            this.tasks[index] = moved;
+            moved.index = index;
+            this.tasks[last] = null;
+            task.index = -1;
+        }
+    }
+
+    /**
+     * Cancels all tasks of this driver.
+     */
+    public void clear() {
+        TickTask task;
+        while ((task = this.pendingAdditions.poll()) != null) {
+            task.cancelled = true;
+        }
+        for (int i = 0; i < this.size; i++) {
+            this.tasks[i].cancelled = true;
+            this.tasks[i].index = -1;
+            this.tasks[i] = null;
+        }
+        this.size = 0;
+        this.pendingRemovals.clear();
+    }
+
+    /**
+     * @return Amount of tasks held by this driver, including cancelled tasks that are removed at the start of the next tick.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The amount of ticks this driver has run.
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * A repeating task run by a {@link TickDriver}.
+     */
+    public static final class TickTask implements SchedulerTask {
+        private final @NonNull TickDriver driver;
+        private final @NonNull BudgetedTask task;
+        private final long initialDelayTicks;
+        private final long intervalTicks;
+        private final long budgetNanos;
+        private volatile boolean cancelled;
+
+        // Only accessed by the ticking thread
+        private int index = -1;
+        private long nextRunTick;
+        private long cycleStartTick;
+        private boolean continuing;
+
+        private TickTask(@NonNull TickDriver driver, @NonNull BudgetedTask task, long initialDelayTicks, long intervalTicks, long budgetNanos) {
+            this.driver = driver;
+            this.task = task;
+            this.initialDelayTicks = initialDelayTicks;
+            this.intervalTicks = intervalTicks;
+            this.budgetNanos = budgetNanos;
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.cancelled) {
+                this.cancelled = true;
+                this.driver.pendingRemovals.add(this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * @return The interval between the runs in ticks.
+         */
+        public long getIntervalTicks() {
+            return this.intervalTicks;
+        }
+
+        /**
+         * @return The time budget per tick in nanoseconds, or {@code 0} if the task has no budget.
+         */
+        public long getBudgetNanos() {
+            return this.budgetNanos;
+        }
+    }
+}
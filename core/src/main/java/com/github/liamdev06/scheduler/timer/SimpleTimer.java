@@ -1,15 +1,21 @@
 package com.github.liamdev06.scheduler.timer;
 
 import com.github.liamdev06.LPlugin;
-import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
 import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Represents a timer that can create and handle time related intervals.
+ * <p>
+ * Running timers are advanced by the shared {@link TimerService} of the plugin, so starting and stopping a timer
+ * does not schedule a task of its own. The value of a timer can be read from any thread.
  */
 public class SimpleTimer {
 
@@ -26,8 +32,14 @@ public class SimpleTimer {
     private final @NonNull String identifier;
     private final int startingValue;
     private final int stopValue;
-    private int timer;
-    private @Nullable SchedulerTask task;
+    private volatile @NonNull Int2ObjectMap<Runnable> valueCallbacks;
+    private volatile @Nullable Runnable stopCallback;
+
+    // Written by the timer service while holding its lock
+    volatile int value;
+    volatile int slot;
+    volatile boolean async;
+    volatile @Nullable TimerService service;
 
     /**
      * Creates a new timer with a specified identifier and starting value.
@@ -50,8 +62,10 @@ public class SimpleTimer {
     public SimpleTimer(@NonNull String identifier, int startingValue, int stopValue) {
         this.identifier = identifier;
         this.startingValue = startingValue;
-        this.timer = startingValue;
+        this.value = startingValue;
         this.stopValue = stopValue;
+        this.valueCallbacks = Int2ObjectMaps.emptyMap();
+        this.slot = -1;
     }
 
     /**
@@ -68,48 +82,92 @@ public class SimpleTimer {
      * Starts the timer with the specified change type and execution mode, sync or async.
      *
      * @param change The type of change to perform on the timer (INCREMENT or DECREMENT).
-     * @param async Indicates whether the timer task should run asynchronously or not.
+     * @param async Indicates whether the callbacks of the timer should run asynchronously or on the main thread.
      * @return The {@link SchedulerTask} associated with the timer.
      */
     public @NonNull SchedulerTask startTimer(TimeChange change, boolean async) {
-        // Only one task can run at the same time
-        if (this.task != null) {
-            throw new IllegalStateException("There is already an active task running in " + this.getClass().getSimpleName());
-        }
-
-        final Runnable task = () -> {
-            int current;
-
-            // Increment or decrement timer
-            if (change == TimeChange.INCREMENT) {
-                current = this.increment();
-            } else {
-                current = this.decrement();
+        LPlugin.getInstance().getTimerService().start(this, change == TimeChange.INCREMENT ? 1 : -1, async);
+        return new SchedulerTask() {
+            @Override
+            public void cancel() {
+                SimpleTimer.this.stopTimer();
             }
 
-            // Stop the timer
-            if (this.stopValue != -1 && current == this.stopValue) {
-                this.stopTimer();
+            @Override
+            public boolean isCancelled() {
+                return !SimpleTimer.this.isRunning();
             }
         };
+    }
 
-        final SchedulerAdapter adapter = LPlugin.getInstance().getSchedulerAdapter();
-        if (async) {
-            return this.task = adapter.asyncRepeating(task, DEFAULT_INTERVAL_TIME, DEFAULT_INTERVAL_TIME, DEFAULT_TIME_UNIT);
-        } else {
-            return this.task = adapter.syncRepeating(task, DEFAULT_INTERVAL_TIME, DEFAULT_INTERVAL_TIME, DEFAULT_TIME_UNIT);
+    /**
+     * Stops the timer task associated with this timer. The timer keeps its current value and can be started again.
+     */
+    public void stopTimer() {
+        final TimerService service = this.service;
+        if (service != null) {
+            service.stop(this);
         }
     }
 
     /**
-     * Stops the timer task associated with this timer.
+     * @return {@code true} if the timer is currently running, {@code false} otherwise.
      */
-    public void stopTimer() {
-        if (this.task != null) {
-            this.task.cancel();
+    public boolean isRunning() {
+        return this.slot != -1;
+    }
+
+    /**
+     * Registers a callback that is run every time the running timer reaches a value.
+     * The callback runs on the main thread, unless the timer was started asynchronously.
+     *
+     * @param value The value to run the callback at.
+     * @param callback The callback to run.
+     * @return This timer.
+     */
+    public synchronized @NonNull SimpleTimer onValue(int value, @NonNull Runnable callback) {
+        final Int2ObjectMap<Runnable> callbacks = new Int2ObjectOpenHashMap<>(this.valueCallbacks);
+        callbacks.put(value, callback);
+        this.valueCallbacks = callbacks;
+        return this;
+    }
+
+    /**
+     * Registers a callback that is run when the running timer reaches its stop value.
+     * The callback runs on the main thread, unless the timer was started asynchronously.
+     *
+     * @param callback The callback to run.
+     * @return This timer.
+     */
+    public @NonNull SimpleTimer onStop(@NonNull Runnable callback) {
+        this.stopCallback = callback;
+        return this;
+    }
+
+    boolean hasCallback(int value) {
+        return this.valueCallbacks.containsKey(value);
+    }
+
+    void fire(int value, boolean stopped) {
+        final Runnable callback = this.valueCallbacks.get(value);
+        if (callback != null) {
+            callback.run();
+        }
+
+        final Runnable stopCallback = this.stopCallback;
+        if (stopped && stopCallback != null) {
+            stopCallback.run();
         }
     }
 
+    private synchronized int update(@NonNull IntUnaryOperator operator) {
+        final TimerService service = this.service;
+        if (service == null) {
+            return this.value = operator.applyAsInt(this.value);
+        }
+        return service.update(this, operator);
+    }
+
     /**
      * Gets the unique identifier of this timer.
      *
@@ -125,7 +183,7 @@ public class SimpleTimer {
      * @param value The value to set the timer at.
      */
     public void set(int value) {
-        this.timer = value;
+        this.update(current -> value);
     }
 
     /**
@@ -134,7 +192,7 @@ public class SimpleTimer {
      * @return The updated value of the timer after incrementing.
      */
     public int increment() {
-        return ++this.timer;
+        return this.update(current -> current + 1);
     }
 
     /**
@@ -144,7 +202,7 @@ public class SimpleTimer {
      * @return The updated value of the timer after incrementing.
      */
     public int incrementBy(int value) {
-        return this.timer += value;
+        return this.update(current -> current + value);
     }
 
     /**
@@ -153,7 +211,7 @@ public class SimpleTimer {
      * @return The updated value of the timer after decrementing.
      */
     public int decrement() {
-        return --this.timer;
+        return this.update(current -> current - 1);
     }
 
     /**
@@ -163,7 +221,7 @@ public class SimpleTimer {
      * @return The updated value of the timer after decrementing.
      */
     public int decrementBy(int value) {
-        return this.timer -= value;
+        return this.update(current -> current - value);
     }
 
     /**
@@ -172,7 +230,7 @@ public class SimpleTimer {
      * @return The starting value of the timer after resetting.
      */
     public int reset() {
-        return this.timer = this.startingValue;
+        return this.update(current -> this.startingValue);
     }
 
     /**
@@ -181,7 +239,16 @@ public class SimpleTimer {
      * @return The current value of the timer.
      */
     public int get() {
-        return this.timer;
+        final TimerService service = this.service;
+        final int slot = this.slot;
+        if (service != null && slot != -1) {
+            final int value = service.read(slot);
+            // The slot may have been released meanwhile, then the value was copied back to this timer
+            if (this.slot == slot) {
+                return value;
+            }
+        }
+        return this.value;
     }
 
     /**
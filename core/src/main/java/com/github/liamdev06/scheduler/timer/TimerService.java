@@ -0,0 +1,284 @@
+package com.github.liamdev06.scheduler.timer;
+
+import com.github.liamdev06.scheduler.TaskOptions;
+import com.github.liamdev06.scheduler.interfaces.SchedulerAdapter;
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import com.github.liamdev06.scheduler.repeat.RepeatPolicy;
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Advances the values of all running {@link SimpleTimer}s from a single asynchronous repeating task.
+ * <p>
+ * The timers are stored in primitive arrays split into pages, so adding timers never moves existing values.
+ * Every interval, the values of all running timers are advanced in one pass over the arrays. Values are held in
+ * {@link AtomicIntegerArray}s, so any thread can read the current value of a timer without locking.
+ * <p>
+ * Starting and stopping a timer only claims or releases a slot in the arrays, the repeating task of the service is
+ * scheduled once, the first time a timer is started. Callbacks of timers started synchronously are handed to the
+ * main thread, callbacks of asynchronous timers run on the thread of the service.
+ */
+public class TimerService implements Runnable {
+
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final @NonNull String LABEL = "timer-service";
+
+    private final @NonNull SchedulerAdapter adapter;
+    private final @NonNull Logger logger;
+    private final long interval;
+    private final @NonNull TimeUnit unit;
+    private final @NonNull Object lock;
+
+    // Guarded by the lock, except that the value pages are read without it
+    private volatile @NonNull AtomicIntegerArray[] values;
+    private int[][] deltas;
+    private int[][] stopValues;
+    private SimpleTimer[][] owners;
+    private int highestSlot;
+    private int[] freeSlots;
+    private int freeCount;
+    private volatile int activeCount;
+    private @Nullable SchedulerTask task;
+
+    // Only accessed by the thread running the service, reused every pass
+    private final @NonNull ObjectArrayList<SimpleTimer> firedTimers;
+    private final @NonNull IntArrayList firedValues;
+    private final @NonNull BooleanArrayList firedStops;
+
+    /**
+     * @param adapter The scheduler adapter to run the service and synchronous callbacks on.
+     * @param logger The {@link Logger} to log exceptions thrown by callbacks with.
+     * @param interval The interval the timers are advanced with.
+     * @param unit The {@link TimeUnit} of the {@code interval}.
+     */
+    public TimerService(@NonNull SchedulerAdapter adapter, @NonNull Logger logger, long interval, @NonNull TimeUnit unit) {
+        this.adapter = adapter;
+        this.logger = logger;
+        this.interval = interval;
+        this.unit = unit;
+        this.lock = new Object();
+        this.values = new AtomicIntegerArray[0];
+        this.deltas = new int[0][];
+        this.stopValues = new int[0][];
+        this.owners = new SimpleTimer[0][];
+        this.freeSlots = new int[16];
+        this.firedTimers = new ObjectArrayList<>();
+        this.firedValues = new IntArrayList();
+        this.firedStops = new BooleanArrayList();
+    }
+
+    /**
+     * Starts advancing a timer.
+     *
+     * @param timer The timer to start.
+     * @param delta The value added to the timer every interval.
+     * @param async If the callbacks of the timer run on the thread of the service instead of the main thread.
+     */
+    void start(@NonNull SimpleTimer timer, int delta, boolean async) {
+        synchronized (timer) {
+            synchronized (this.lock) {
+                if (timer.slot != -1) {
+                    throw new IllegalStateException("There is already an active task running in " + timer.getClass().getSimpleName());
+                }
+
+                final int slot = this.claimSlot();
+                final int page = slot >>> PAGE_SHIFT;
+                final int index = slot & PAGE_MASK;
+                this.values[page].set(index, timer.value);
+                this.deltas[page][index] = delta;
+                this.stopValues[page][index] = timer.getStopValue();
+                this.owners[page][index] = timer;
+                timer.service = this;
+                timer.async = async;
+                timer.slot = slot;
+                this.activeCount++;
+
+                if (this.task == null) {
+                    final TaskOptions options = TaskOptions.labelled(LABEL).withRepeatPolicy(RepeatPolicy.SKIP_MISSED);
+                    this.task = this.adapter.asyncRepeating(this, this.interval, this.interval, this.unit, options);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops advancing a timer, keeping its current value.
+     *
+     * @param timer The timer to stop.
+     */
+    void stop(@NonNull SimpleTimer timer) {
+        synchronized (this.lock) {
+            final int slot = timer.slot;
+            if (slot != -1) {
+                this.release(timer, slot);
+            }
+        }
+    }
+
+    /**
+     * Updates the value of a timer, whether it is running or not.
+     *
+     * @param timer The timer to update.
+     * @param operator The operator computing the new value from the current value.
+     * @return The new value of the timer.
+     */
+    int update(@NonNull SimpleTimer timer, @NonNull IntUnaryOperator operator) {
+        synchronized (this.lock) {
+            final int slot = timer.slot;
+            if (slot == -1) {
+                return timer.value = operator.applyAsInt(timer.value);
+            }
+
+            final AtomicIntegerArray page = this.values[slot >>> PAGE_SHIFT];
+            final int value = operator.applyAsInt(page.get(slot & PAGE_MASK));
+            page.set(slot & PAGE_MASK, value);
+            return value;
+        }
+    }
+
+    /**
+     * Reads the value in a slot without locking.
+     *
+     * @param slot The slot to read.
+     * @return The value in the slot.
+     */
+    int read(int slot) {
+        return this.values[slot >>> PAGE_SHIFT].get(slot & PAGE_MASK);
+    }
+
+    /**
+     * Advances all running timers once, must only be called by the repeating task of this service.
+     */
+    @Override
+    public void run() {
+        synchronized (this.lock) {
+            final int highestSlot = this.highestSlot;
+            final int pages = (highestSlot + PAGE_MASK) >>> PAGE_SHIFT;
+            for (int page = 0; page < pages; page++) {
+                final AtomicIntegerArray values = this.values[page];
+                final int[] deltas = this.deltas[page];
+                final int[] stopValues = this.stopValues[page];
+                final SimpleTimer[] owners = this.owners[page];
+                final int end = Math.min(PAGE_SIZE, highestSlot - (page << PAGE_SHIFT));
+
+                for (int index = 0; index < end; index++) {
+                    final int delta = deltas[index];
+                    if (delta == 0) {
+                        continue;
+                    }
+
+                    final int value = values.get(index) + delta;
+                    values.set(index, value);
+
+                    final SimpleTimer timer = owners[index];
+                    final boolean stopped = stopValues[index] != -1 && value == stopValues[index];
+                    if (stopped) {
+                        this.release(timer, (page << PAGE_SHIFT) | index);
+                    }
+                    // Only timers with something to run are handed over, not every timer that has a callback for another value
+                    if (stopped || timer.hasCallback(value)) {
+                        this.firedTimers.add(timer);
+                        this.firedValues.add(value);
+                        this.firedStops.add(stopped);
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < this.firedTimers.size(); i++) {
+            final SimpleTimer timer = this.firedTimers.get(i);
+            final int value = this.firedValues.getInt(i);
+            final boolean stopped = this.firedStops.getBoolean(i);
+            if (timer.async) {
+                this.fire(timer, value, stopped);
+            } else {
+                this.adapter.executeSync(() -> this.fire(timer, value, stopped));
+            }
+        }
+        this.firedTimers.clear();
+        this.firedValues.clear();
+        this.firedStops.clear();
+    }
+
+    private void fire(@NonNull SimpleTimer timer, int value, boolean stopped) {
+        try {
+            timer.fire(value, stopped);
+        } catch (Throwable throwable) {
+            this.logger.error("A callback of timer {} threw an exception.", timer.getIdentifier(), throwable);
+        }
+    }
+
+    private int claimSlot() {
+        if (this.freeCount > 0) {
+            return this.freeSlots[--this.freeCount];
+        }
+
+        final int slot = this.highestSlot++;
+        final int page = slot >>> PAGE_SHIFT;
+        if (page == this.values.length) {
+            final AtomicIntegerArray[] values = Arrays.copyOf(this.values, page + 1);
+            values[page] = new AtomicIntegerArray(PAGE_SIZE);
+            this.deltas = Arrays.copyOf(this.deltas, page + 1);
+            this.deltas[page] = new int[PAGE_SIZE];
+            this.stopValues = Arrays.copyOf(this.stopValues, page + 1);
+            this.stopValues[page] = new int[PAGE_SIZE];
+            this.owners = Arrays.copyOf(this.owners, page + 1);
+            this.owners[page] = new SimpleTimer[PAGE_SIZE];
+            this.values = values;
+        }
+        return slot;
+    }
+
+    private void release(@NonNull SimpleTimer timer, int slot) {
+        final int page = slot >>> PAGE_SHIFT;
+        final int index = slot & PAGE_MASK;
+
+        // The value is copied back before the slot is given up, so lock-free readers always see the latest value
+        timer.value = this.values[page].get(index);
+        timer.slot = -1;
+        this.deltas[page][index] = 0;
+        this.owners[page][index] = null;
+        this.activeCount--;
+
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = slot;
+    }
+
+    /**
+     * Stops all timers and cancels the repeating task of this service.
+     */
+    public void shutdown() {
+        synchronized (this.lock) {
+            for (int slot = 0; slot < this.highestSlot; slot++) {
+                final SimpleTimer timer = this.owners[slot >>> PAGE_SHIFT][slot & PAGE_MASK];
+                if (timer != null) {
+                    this.release(timer, slot);
+                }
+            }
+            if (this.task != null) {
+                this.task.cancel();
+                this.task = null;
+            }
+        }
+    }
+
+    /**
+     * @return Amount of timers currently running.
+     */
+    public int getActiveCount() {
+        return this.activeCount;
+    }
+}
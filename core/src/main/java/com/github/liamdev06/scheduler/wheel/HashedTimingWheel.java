@@ -0,0 +1,378 @@
+package com.github.liamdev06.scheduler.wheel;
+
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for running large amounts of delayed and repeating timers with constant time schedule and cancel.
+ * <p>
+ * The wheel is an array of buckets that a single thread advances one bucket per tick. A timer is hashed into the
+ * bucket of its deadline tick, and timers further away than one revolution of the wheel keep a count of the remaining
+ * rounds instead of being placed in a separate level. Scheduling and cancelling only add the timer to a lock-free queue,
+ * which the wheel thread drains at the start of every tick, so neither contends with other schedulers.
+ * <p>
+ * Timers fire at most one tick late, so the tick duration is the resolution of the wheel. Timer tasks run on the wheel
+ * thread and must be short, they are meant to hand the actual work to an executor.
+ */
+public class HashedTimingWheel {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final @NonNull Logger logger;
+    private final long tickNanos;
+    private final int mask;
+    private final @NonNull Bucket[] wheel;
+    private final @NonNull Queue<WheelTimeout> pendingTimeouts;
+    private final @NonNull Queue<WheelTimeout> cancelledTimeouts;
+    private final @NonNull AtomicInteger activeTimeouts;
+    private final @NonNull Thread thread;
+    private final long startTime;
+
+    private volatile boolean running;
+    private long tick;
+
+    /**
+     * Creates and starts a new timing wheel.
+     *
+     * @param threadName The name of the wheel thread.
+     * @param tickDuration The duration of a tick, which is the resolution of the wheel.
+     * @param unit The {@link TimeUnit} of the {@code tickDuration}.
+     * @param wheelSize The amount of buckets, rounded up to a power of two.
+     * @param logger The {@link Logger} to log failing timer tasks with.
+     * @throws IllegalArgumentException If the tick duration or wheel size is not positive.
+     */
+    public HashedTimingWheel(@NonNull String threadName, long tickDuration, @NonNull TimeUnit unit, int wheelSize, @NonNull Logger logger) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive, got " + tickDuration + ".");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30, got " + wheelSize + ".");
+        }
+
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.logger = logger;
+        this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.activeTimeouts = new AtomicInteger();
+
+        this.startTime = System.nanoTime();
+        this.running = true;
+        this.thread = new Thread(this::run, threadName);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param task The task to run on the wheel thread.
+     * @param delay The delay before the task runs.
+     * @param unit The {@link TimeUnit} of the {@code delay}.
+     * @return The scheduled {@link WheelTimeout}.
+     * @throws IllegalStateException If the wheel is stopped.
+     */
+    public @NonNull WheelTimeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        return this.schedule(task, delay, 0, unit);
+    }
+
+    /**
+     * Schedules a task to run repeatedly at a fixed rate.
+     *
+     * @param task The task to run on the wheel thread.
+     * @param initialDelay The delay before the task runs the first time.
+     * @param interval The interval between the start of every run.
+     * @param unit The {@link TimeUnit} of the {@code initialDelay} and {@code interval}.
+     * @return The scheduled {@link WheelTimeout}.
+     * @throws IllegalArgumentException If the interval is not positive.
+     * @throws IllegalStateException If the wheel is stopped.
+     */
+    public @NonNull WheelTimeout scheduleAtFixedRate(@NonNull Runnable task, long initialDelay, long interval, @NonNull TimeUnit unit) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be positive, got " + interval + ".");
+        }
+        return this.schedule(task, initialDelay, unit.toNanos(interval), unit);
+    }
+
+    private @NonNull WheelTimeout schedule(@NonNull Runnable task, long delay, long intervalNanos, @NonNull TimeUnit unit) {
+        if (!this.running) {
+            throw new IllegalStateException("Cannot schedule a timer on a stopped timing wheel.");
+        }
+
+        final long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - this.startTime;
+        final WheelTimeout timeout = new WheelTimeout(this, task, deadline, intervalNanos);
+        this.activeTimeouts.incrementAndGet();
+        this.pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the wheel thread. Timers that have not fired yet are discarded.
+     *
+     * @param timeout The maximum time to wait for the wheel thread to stop.
+     * @param unit The {@link TimeUnit} of the {@code timeout}.
+     * @return {@code true} if the wheel thread stopped in time, {@code false} otherwise.
+     * @throws InterruptedException If interrupted while waiting for the wheel thread to stop.
+     */
+    public boolean stop(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        this.thread.join(Math.max(1, unit.toMillis(timeout)));
+        return !this.thread.isAlive();
+    }
+
+    /**
+     * @return Amount of timers that are scheduled and have not fired or been cancelled yet.
+     */
+    public int getActiveTimeouts() {
+        return this.activeTimeouts.get();
+    }
+
+    /**
+     * @return The duration of a tick in nanoseconds.
+     */
+    public long getTickNanos() {
+        return this.tickNanos;
+    }
+
+    /**
+     * @return The amount of buckets in the wheel.
+     */
+    public int getWheelSize() {
+        return this.wheel.length;
+    }
+
+    private void run() {
+        final List<WheelTimeout> rescheduled = new ArrayList<>();
+
+        while (this.running) {
+            final long deadline = this.waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+
+            this.transferPendingTimeouts();
+            this.processCancelledTimeouts();
+            this.wheel[(int) (this.tick & this.mask)].expireTimeouts(deadline, rescheduled);
+
+            // Repeating timers are placed back after the bucket is expired, so they never fire twice in one tick
+            this.tick++;
+            for (WheelTimeout timeout : rescheduled) {
+                this.place(timeout);
+            }
+            rescheduled.clear();
+        }
+
+        this.pendingTimeouts.clear();
+        this.cancelledTimeouts.clear();
+    }
+
+    /**
+     * Waits until the current tick has passed.
+     *
+     * @return The time since the wheel started in nanoseconds, or {@code -1} if the wheel was stopped while waiting.
+     */
+    private long waitForNextTick() {
+        final long deadline = this.tickNanos * (this.tick + 1);
+
+        while (true) {
+            final long currentTime = System.nanoTime() - this.startTime;
+            if (currentTime >= deadline) {
+                return currentTime;
+            }
+            if (!this.running) {
+                return -1;
+            }
+            LockSupport.parkNanos(this, deadline - currentTime);
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            final WheelTimeout timeout = this.pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (!timeout.isCancelled()) {
+                this.place(timeout);
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = this.cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Places a timeout into the bucket of its deadline, or the current bucket if its deadline has already passed.
+     *
+     * @param timeout The timeout to place.
+     */
+    private void place(@NonNull WheelTimeout timeout) {
+        final long deadlineTick = timeout.deadline / this.tickNanos;
+        timeout.remainingRounds = Math.max(0, (deadlineTick - this.tick) / this.wheel.length);
+        this.wheel[(int) (Math.max(deadlineTick, this.tick) & this.mask)].add(timeout);
+    }
+
+    private void runTask(@NonNull WheelTimeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (Throwable throwable) {
+            this.logger.error("A task scheduled on the timing wheel threw an exception.", throwable);
+        }
+    }
+
+    /**
+     * A timer scheduled on a {@link HashedTimingWheel}.
+     */
+    public static final class WheelTimeout implements SchedulerTask {
+        private static final int STATE_SCHEDULED = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+        private static final @NonNull AtomicIntegerFieldUpdater<WheelTimeout> STATE = AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final @NonNull HashedTimingWheel wheel;
+        private final @NonNull Runnable task;
+        private final long intervalNanos;
+        private volatile int state;
+
+        // Only accessed by the wheel thread
+        private long deadline;
+        private long remainingRounds;
+        private @Nullable WheelTimeout next;
+        private @Nullable WheelTimeout previous;
+        private @Nullable Bucket bucket;
+
+        private WheelTimeout(@NonNull HashedTimingWheel wheel, @NonNull Runnable task, long deadline, long intervalNanos) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.intervalNanos = intervalNanos;
+        }
+
+        @Override
+        public void cancel() {
+            if (STATE.compareAndSet(this, STATE_SCHEDULED, STATE_CANCELLED)) {
+                this.wheel.activeTimeouts.decrementAndGet();
+                this.wheel.cancelledTimeouts.add(this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.state == STATE_CANCELLED;
+        }
+
+        /**
+         * @return {@code true} if this is a one-time timer that has fired, {@code false} otherwise.
+         */
+        public boolean isExpired() {
+            return this.state == STATE_EXPIRED;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed into one slot of the wheel, allowing constant time removal.
+     */
+    private final class Bucket {
+        private @Nullable WheelTimeout head;
+        private @Nullable WheelTimeout tail;
+
+        private void add(@NonNull WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.previous = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        private @Nullable WheelTimeout remove(@NonNull WheelTimeout timeout) {
+            final WheelTimeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            }
+            if (next != null) {
+                next.previous = timeout.previous;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.previous;
+            }
+
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        /**
+         * Fires all timeouts of this bucket whose deadline has been reached and counts down the rounds of the others.
+         *
+         * @param deadline The current time since the wheel started in nanoseconds.
+         * @param rescheduled List to add the repeating timeouts that fired to, which have to be placed again.
+         */
+        private void expireTimeouts(long deadline, @NonNull List<WheelTimeout> rescheduled) {
+            WheelTimeout timeout = this.head;
+
+            while (timeout != null) {
+                if (timeout.isCancelled()) {
+                    timeout = this.remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    final WheelTimeout current = timeout;
+                    timeout = this.remove(current);
+                    this.fire(current, deadline, rescheduled);
+                } else {
+                    timeout.remainingRounds--;
+                    timeout = timeout.next;
+                }
+            }
+        }
+
+        private void fire(@NonNull WheelTimeout timeout, long deadline, @NonNull List<WheelTimeout> rescheduled) {
+            if (timeout.intervalNanos <= 0) {
+                if (WheelTimeout.STATE.compareAndSet(timeout, WheelTimeout.STATE_SCHEDULED, WheelTimeout.STATE_EXPIRED)) {
+                    HashedTimingWheel.this.activeTimeouts.decrementAndGet();
+                    HashedTimingWheel.this.runTask(timeout);
+                }
+                return;
+            }
+
+            HashedTimingWheel.this.runTask(timeout);
+            if (!timeout.isCancelled()) {
+                // Fixed rate, runs missed while the wheel was behind are caught up one tick at a time
+                timeout.deadline += timeout.intervalNanos;
+                rescheduled.add(timeout);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.liamdev06.utils.bukkit;
+
+import com.github.liamdev06.utils.bukkit.event.EventFilter;
+import com.github.liamdev06.utils.bukkit.event.HandlerMetrics;
+import com.github.liamdev06.utils.java.LoggerUtil;
+import lombok.experimental.UtilityClass;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Utility class for generating {@link EventExecutor event executors} that call an event handler method directly.
+ * <p>
+ * The executors are generated once with {@link LambdaMetafactory}, so dispatching an event does not go through
+ * reflection like the executors Bukkit creates in {@link org.bukkit.plugin.PluginManager#registerEvents(Listener, org.bukkit.plugin.Plugin)}.
+ */
+@UtilityClass
+public class EventExecutorFactory {
+
+    private static final @NonNull Logger LOGGER = LoggerUtil.createLogger(EventExecutorFactory.class);
+
+    /**
+     * Creates an executor calling the provided event handler method.
+     * <p>
+     * The executor skips events that are not an instance of {@code eventClass}, the same way the Bukkit executors do
+     * when an executor registered for a super event receives a sub event it does not handle.
+     *
+     * @param method The event handler method, taking the event as its only parameter.
+     * @param eventClass The class of the event handled by the method.
+     * @return The generated {@link EventExecutor}.
+     * @throws IllegalArgumentException If the method is not accessible.
+     */
+    public static @NonNull EventExecutor create(@NonNull Method method, @NonNull Class<? extends Event> eventClass) {
+        final BiConsumer<Object, Object> invoker = createInvoker(method, eventClass);
+
+        return (listener, event) -> {
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+
+            try {
+                invoker.accept(listener, event);
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            }
+        };
+    }
+
+    /**
+     * Creates an executor calling the provided event handler method for the events passing all provided filters.
+     * <p>
+     * The filters run in order after the event type check, and the first filter dropping an event stops the others from running.
+     *
+     * @param method The event handler method, taking the event as its only parameter.
+     * @param eventClass The class of the event handled by the method.
+     * @param filters The filters an event must pass for the method to be called.
+     * @return The generated {@link EventExecutor}.
+     * @throws IllegalArgumentException If the method is not accessible.
+     */
+    public static @NonNull EventExecutor create(@NonNull Method method, @NonNull Class<? extends Event> eventClass, @NonNull EventFilter... filters) {
+        if (filters.length == 0) {
+            return create(method, eventClass);
+        }
+
+        final BiConsumer<Object, Object> invoker = createInvoker(method, eventClass);
+        final EventFilter[] filterArray = filters.clone();
+
+        return (listener, event) -> {
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+            for (EventFilter filter : filterArray) {
+                if (!filter.test(event)) {
+                    return;
+                }
+            }
+
+            try {
+                invoker.accept(listener, event);
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            }
+        };
+    }
+
+    /**
+     * Creates an executor calling the provided event handler method for the events passing all provided filters,
+     * timing every call of the method and recording it in the provided metrics.
+     * <p>
+     * Only calls of the method are recorded, events of another type and events dropped by a filter are not.
+     *
+     * @param method The event handler method, taking the event as its only parameter.
+     * @param eventClass The class of the event handled by the method.
+     * @param metrics The metrics to record the calls of the method in.
+     * @param filters The filters an event must pass for the method to be called.
+     * @return The generated {@link EventExecutor}.
+     * @throws IllegalArgumentException If the method is not accessible.
+     */
+    public static @NonNull EventExecutor create(@NonNull Method method, @NonNull Class<? extends Event> eventClass, @NonNull HandlerMetrics metrics, @NonNull EventFilter... filters) {
+        final BiConsumer<Object, Object> invoker = createInvoker(method, eventClass);
+        final EventFilter[] filterArray = filters.clone();
+
+        return (listener, event) -> {
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+            for (EventFilter filter : filterArray) {
+                if (!filter.test(event)) {
+                    return;
+                }
+            }
+
+            final long timeAtStart = System.nanoTime();
+            try {
+                invoker.accept(listener, event);
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            } finally {
+                metrics.record(System.nanoTime() - timeAtStart);
+            }
+        };
+    }
+
+    private static @NonNull BiConsumer<Object, Object> createInvoker(@NonNull Method method, @NonNull Class<? extends Event> eventClass) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+        final MethodHandles.Lookup lookup;
+        final MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalArgumentException("Event handler " + method.getName() + " in " + declaringClass.getName() + " is not accessible.", exception);
+        }
+
+        try {
+            if (isStatic) {
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "accept",
+                        MethodType.methodType(Consumer.class),
+                        MethodType.methodType(void.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, eventClass)
+                );
+                final Consumer<Object> consumer = (Consumer<Object>) site.getTarget().invoke();
+                return (listener, event) -> consumer.accept(event);
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, declaringClass, eventClass)
+            );
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable throwable) {
+            // Fall back to invoking the method handle directly if a lambda could not be spun.
+            // The handle is adapted to one fixed type, so it is invoked exactly instead of through the varargs path
+            LOGGER.warn("Could not generate an executor for event handler {} in {}, falling back to invoking its method handle.",
+                    method.getName(), declaringClass.getName(), throwable);
+            final MethodHandle exact = isStatic
+                    ? MethodHandles.dropArguments(handle.asType(MethodType.methodType(void.class, Object.class)), 0, Object.class)
+                    : handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (listener, event) -> invoke(exact, listener, event);
+        }
+    }
+
+    private static void invoke(@NonNull MethodHandle handle, @NonNull Object listener, @NonNull Object event) {
+        try {
+            handle.invokeExact(listener, event);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+}
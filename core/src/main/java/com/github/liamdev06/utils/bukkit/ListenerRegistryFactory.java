@@ -3,20 +3,45 @@ package com.github.liamdev06.utils.bukkit;
 import com.github.liamdev06.LPlugin;
 import com.github.liamdev06.registry.AutoRegister;
 import com.github.liamdev06.registry.RegistryFactory;
+import com.github.liamdev06.utils.bukkit.event.*;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.EventExecutor;
 import org.bukkit.plugin.PluginManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Helper class for automatically registering and instantiating all Bukkit {@link Listener} with {@link RegistryFactory}.
  * Listeners are also registered into the {@link PluginManager}.
+ * <p>
+ * Every {@link EventHandler} method is registered with an executor generated by {@link EventExecutorFactory},
+ * so events are dispatched to the listeners without reflection. Handler methods annotated with {@link OnBlockChange},
+ * {@link Throttle} or {@link Sample} get the matching {@link EventFilter} run before them. When metrics are enabled,
+ * every executor times the calls of its handler to collect its {@link HandlerMetrics}.
  */
 public class ListenerRegistryFactory {
 
     private final @NonNull LPlugin plugin;
+    private final @NonNull List<EventFilter> eventFilters;
+    private final @NonNull List<ThrottleFilter> throttleFilters;
+    private final @NonNull List<HandlerMetrics> handlerMetrics;
+    private boolean quitListenerRegistered;
+    private boolean metricsEnabled;
 
     public ListenerRegistryFactory(@NonNull LPlugin plugin) {
         this.plugin = plugin;
+        this.eventFilters = new CopyOnWriteArrayList<>();
+        this.throttleFilters = new CopyOnWriteArrayList<>();
+        this.handlerMetrics = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -29,8 +54,150 @@ public class ListenerRegistryFactory {
         for (Class<? extends Listener> listenerClass : registryFactory.getClassesWithRegistryType(Listener.class, Listener.class)) {
             Object listener = registryFactory.createEffectiveInstance(listenerClass);
             if (listener != null) {
-                pluginManager.registerEvents((Listener) listener, this.plugin);
+                this.registerListener(pluginManager, (Listener) listener);
             }
         }
     }
+
+    /**
+     * Registers all {@link EventHandler} methods of a listener with generated executors.
+     *
+     * @param listener The listener to register.
+     */
+    public void registerListener(@NonNull Listener listener) {
+        this.registerListener(this.plugin.getServer().getPluginManager(), listener);
+    }
+
+    private void registerListener(@NonNull PluginManager pluginManager, @NonNull Listener listener) {
+        for (Method method : this.getHandlerMethods(listener.getClass())) {
+            final EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+            final Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            final EventFilter[] filters = this.createFilters(pluginManager, method, eventClass);
+
+            final EventExecutor executor;
+            if (this.metricsEnabled) {
+                HandlerMetrics metrics = new HandlerMetrics(method.getDeclaringClass().getSimpleName() + "#" + method.getName(), eventClass);
+                this.handlerMetrics.add(metrics);
+                executor = EventExecutorFactory.create(method, eventClass, metrics, filters);
+            } else {
+                executor = EventExecutorFactory.create(method, eventClass, filters);
+            }
+
+            pluginManager.registerEvent(
+                    eventClass,
+                    listener,
+                    eventHandler.priority(),
+                    executor,
+                    this.plugin,
+                    eventHandler.ignoreCancelled()
+            );
+        }
+    }
+
+    /**
+     * Creates the {@link EventFilter filters} of the filter annotations present on an event handler method.
+     * The cheapest filters are ordered first, and the throttle last so it only records events passing the other filters.
+     *
+     * @param pluginManager The plugin manager to register the throttle cleanup listener in.
+     * @param method The event handler method.
+     * @param eventClass The class of the event handled by the method.
+     * @return The filters of the method, empty if it has no filter annotations.
+     * @throws IllegalArgumentException If a filter annotation is used on a handler of an event it does not support.
+     */
+    private @NonNull EventFilter[] createFilters(@NonNull PluginManager pluginManager, @NonNull Method method, @NonNull Class<? extends Event> eventClass) {
+        final String name = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        final List<EventFilter> filters = new ArrayList<>();
+
+        if (method.isAnnotationPresent(OnBlockChange.class)) {
+            requireEvent(method, eventClass, PlayerMoveEvent.class, OnBlockChange.class);
+            filters.add(new BlockChangeFilter(name + " @OnBlockChange"));
+        }
+
+        final Sample sample = method.getAnnotation(Sample.class);
+        if (sample != null) {
+            filters.add(new SampleFilter(name + " @Sample", sample.value()));
+        }
+
+        final Throttle throttle = method.getAnnotation(Throttle.class);
+        if (throttle != null) {
+            requireEvent(method, eventClass, PlayerEvent.class, Throttle.class);
+            ThrottleFilter filter = new ThrottleFilter(name + " @Throttle", throttle.unit().toNanos(throttle.value()));
+            this.throttleFilters.add(filter);
+            this.registerQuitListener(pluginManager);
+            filters.add(filter);
+        }
+
+        this.eventFilters.addAll(filters);
+        return filters.toArray(EventFilter[]::new);
+    }
+
+    private static void requireEvent(@NonNull Method method, @NonNull Class<? extends Event> eventClass, @NonNull Class<? extends Event> requiredClass, @NonNull Class<?> annotation) {
+        if (!requiredClass.isAssignableFrom(eventClass)) {
+            throw new IllegalArgumentException("@" + annotation.getSimpleName() + " on " + method.getDeclaringClass().getName() + "#" + method.getName()
+                    + " can only be used on handlers of " + requiredClass.getSimpleName() + ".");
+        }
+    }
+
+    /**
+     * Registers the listener removing the throttle state of players when they quit, if it is not registered yet.
+     *
+     * @param pluginManager The plugin manager to register the listener in.
+     */
+    private void registerQuitListener(@NonNull PluginManager pluginManager) {
+        if (this.quitListenerRegistered) {
+            return;
+        }
+
+        this.quitListenerRegistered = true;
+        pluginManager.registerEvent(PlayerQuitEvent.class, new Listener() { }, EventPriority.MONITOR, (listener, event) -> {
+            if (event instanceof PlayerQuitEvent quitEvent) {
+                final int entityId = quitEvent.getPlayer().getEntityId();
+                for (ThrottleFilter filter : this.throttleFilters) {
+                    filter.forget(entityId);
+                }
+            }
+        }, this.plugin, false);
+    }
+
+    /**
+     * Sets if the executors of listeners registered from here on should collect {@link HandlerMetrics}.
+     *
+     * @param metricsEnabled {@code true} if metrics should be collected, {@code false} otherwise. By default, this is {@code false}.
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * @return Unmodifiable list of the metrics of every handler registered while metrics were enabled.
+     */
+    public @NonNull List<HandlerMetrics> getHandlerMetrics() {
+        return Collections.unmodifiableList(this.handlerMetrics);
+    }
+
+    /**
+     * @return Unmodifiable list of all event filters created for the registered listeners.
+     */
+    public @NonNull List<EventFilter> getEventFilters() {
+        return Collections.unmodifiableList(this.eventFilters);
+    }
+
+    /**
+     * Finds the event handler methods of a listener class the same way {@link PluginManager#registerEvents} does,
+     * which are the public and declared methods annotated with {@link EventHandler} that take a single {@link Event}.
+     *
+     * @param listenerClass The class of the listener.
+     * @return Set of the event handler methods.
+     */
+    private @NonNull Set<Method> getHandlerMethods(@NonNull Class<?> listenerClass) {
+        final Set<Method> methods = new LinkedHashSet<>(Arrays.asList(listenerClass.getMethods()));
+        methods.addAll(Arrays.asList(listenerClass.getDeclaredMethods()));
+
+        methods.removeIf(method -> method.isBridge()
+                || method.isSynthetic()
+                || !method.isAnnotationPresent(EventHandler.class)
+                || method.getParameterCount() != 1
+                || !Event.class.isAssignableFrom(method.getParameterTypes()[0]));
+        return methods;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import org.bukkit.Location;
+import org.bukkit.event.Event;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+
+/**
+ * {@link EventFilter} created from {@link OnBlockChange}, dropping moves within the same block.
+ */
+public class BlockChangeFilter extends EventFilter {
+
+    public BlockChangeFilter(@NonNull String name) {
+        super(name);
+    }
+
+    @Override
+    protected boolean accept(@NonNull Event event) {
+        final PlayerMoveEvent moveEvent = (PlayerMoveEvent) event;
+        final Location from = moveEvent.getFrom();
+        final Location to = moveEvent.getTo();
+
+        return from.getBlockX() != to.getBlockX()
+                || from.getBlockY() != to.getBlockY()
+                || from.getBlockZ() != to.getBlockZ()
+                || !Objects.equals(from.getWorld(), to.getWorld());
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import org.bukkit.event.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pre-filter that runs before an event handler and decides if the handler should be called for an event.
+ * <p>
+ * Filters are created from annotations like {@link OnBlockChange}, {@link Throttle} and {@link Sample} on
+ * auto registered listener methods, and keep count of how many events they dropped.
+ */
+public abstract class EventFilter {
+
+    private final @NonNull String name;
+    private final @NonNull LongAdder dropped;
+
+    protected EventFilter(@NonNull String name) {
+        this.name = name;
+        this.dropped = new LongAdder();
+    }
+
+    /**
+     * Tests if the handler should be called for the provided event, and counts the event if it is dropped.
+     *
+     * @param event The event, always an instance of the event class handled by the handler.
+     * @return {@code true} if the handler should be called, {@code false} if the event is dropped.
+     */
+    public final boolean test(@NonNull Event event) {
+        if (this.accept(event)) {
+            return true;
+        }
+        this.dropped.increment();
+        return false;
+    }
+
+    /**
+     * @param event The event, always an instance of the event class handled by the handler.
+     * @return {@code true} if the handler should be called, {@code false} if the event should be dropped.
+     */
+    protected abstract boolean accept(@NonNull Event event);
+
+    /**
+     * @return Name describing this filter and the handler it belongs to.
+     */
+    public @NonNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return How many events this filter has dropped.
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+}
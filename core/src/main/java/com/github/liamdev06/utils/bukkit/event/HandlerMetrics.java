@@ -0,0 +1,84 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import com.github.liamdev06.utils.java.NanoHistogram;
+import org.bukkit.event.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Dispatch metrics of a single event handler method, collected when listener metrics are enabled in the
+ * {@link com.github.liamdev06.utils.bukkit.ListenerRegistryFactory}.
+ * <p>
+ * Only calls of the handler method are timed. Events of another type and events dropped by an {@link EventFilter} are not recorded.
+ */
+public class HandlerMetrics {
+
+    private final @NonNull String name;
+    private final @NonNull Class<? extends Event> eventClass;
+    private final @NonNull NanoHistogram histogram;
+
+    public HandlerMetrics(@NonNull String name, @NonNull Class<? extends Event> eventClass) {
+        this.name = name;
+        this.eventClass = eventClass;
+        this.histogram = new NanoHistogram();
+    }
+
+    /**
+     * Records one call of the handler method.
+     *
+     * @param nanos How long the call took in nanoseconds.
+     */
+    public void record(long nanos) {
+        this.histogram.record(nanos);
+    }
+
+    /**
+     * @return Name of the handler, formatted as {@code ListenerClass#method}.
+     */
+    public @NonNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return The class of the event handled by the handler.
+     */
+    public @NonNull Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * @return How many times the handler method has been called.
+     */
+    public long getInvocations() {
+        return this.histogram.getCount();
+    }
+
+    /**
+     * @return Cumulative time spent in the handler method in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.histogram.getTotalNanos();
+    }
+
+    /**
+     * @return The longest call of the handler method in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return this.histogram.getMaxNanos();
+    }
+
+    /**
+     * @param percentile The percentile between {@code 0} and {@code 100}.
+     * @return The approximate call duration of the percentile in nanoseconds.
+     * @see NanoHistogram#getPercentileNanos(double)
+     */
+    public long getPercentileNanos(double percentile) {
+        return this.histogram.getPercentileNanos(percentile);
+    }
+
+    /**
+     * Clears all collected metrics of the handler.
+     */
+    public void reset() {
+        this.histogram.reset();
+    }
+}
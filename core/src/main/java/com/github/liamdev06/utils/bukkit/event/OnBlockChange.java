@@ -0,0 +1,17 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Only calls the annotated {@link org.bukkit.event.player.PlayerMoveEvent} handler when the player moved to another block.
+ * <p>
+ * Moves that only change the rotation of the player or their position within the same block are dropped
+ * before the handler is called. Can only be used on handlers of a {@link org.bukkit.event.player.PlayerMoveEvent}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface OnBlockChange {
+}
@@ -0,0 +1,21 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Only calls the annotated event handler for every n-th event it receives, starting with the first one.
+ * <p>
+ * Useful for handlers that only have to observe a share of a high-frequency event, like statistics collection.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Sample {
+
+    /**
+     * @return How many events make up one sample, the handler is called for one of them. Must be at least 1.
+     */
+    int value();
+}
@@ -0,0 +1,34 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import org.bukkit.event.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EventFilter} created from {@link Sample}, only letting every n-th event through.
+ */
+public class SampleFilter extends EventFilter {
+
+    private final int rate;
+    private final @NonNull AtomicLong received;
+
+    /**
+     * @param name Name describing this filter and the handler it belongs to.
+     * @param rate How many events make up one sample.
+     * @throws IllegalArgumentException If the rate is less than 1.
+     */
+    public SampleFilter(@NonNull String name, int rate) {
+        super(name);
+        if (rate < 1) {
+            throw new IllegalArgumentException("Sample rate of " + name + " must be at least 1, got " + rate + ".");
+        }
+        this.rate = rate;
+        this.received = new AtomicLong();
+    }
+
+    @Override
+    protected boolean accept(@NonNull Event event) {
+        return this.received.getAndIncrement() % this.rate == 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the annotated event handler at most once per player within the provided interval.
+ * <p>
+ * Events of a player received before the interval since their last handled event has passed are dropped.
+ * Can only be used on handlers of a {@link org.bukkit.event.player.PlayerEvent}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Throttle {
+
+    /**
+     * @return The minimum interval between two handled events of the same player.
+     */
+    long value();
+
+    /**
+     * @return The {@link TimeUnit} of the {@link #value() interval}. By default, this is milliseconds.
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,55 @@
+package com.github.liamdev06.utils.bukkit.event;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import org.bukkit.event.Event;
+import org.bukkit.event.player.PlayerEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@link EventFilter} created from {@link Throttle}, letting at most one event per player through within an interval.
+ * <p>
+ * The time of the last handled event is stored per player entity id. Entries are removed with {@link #forget(int)}
+ * when the player quits, which the {@link com.github.liamdev06.utils.bukkit.ListenerRegistryFactory} takes care of.
+ */
+public class ThrottleFilter extends EventFilter {
+
+    private final long intervalNanos;
+    private final @NonNull Int2LongMap lastHandled;
+
+    /**
+     * @param name Name describing this filter and the handler it belongs to.
+     * @param intervalNanos The minimum interval between two handled events of the same player in nanoseconds.
+     */
+    public ThrottleFilter(@NonNull String name, long intervalNanos) {
+        super(name);
+        this.intervalNanos = intervalNanos;
+        this.lastHandled = new Int2LongOpenHashMap();
+    }
+
+    @Override
+    protected boolean accept(@NonNull Event event) {
+        final int entityId = ((PlayerEvent) event).getPlayer().getEntityId();
+        final long now = System.nanoTime();
+
+        // Player events may be called asynchronously, like the chat event
+        synchronized (this.lastHandled) {
+            if (this.lastHandled.containsKey(entityId) && now - this.lastHandled.get(entityId) < this.intervalNanos) {
+                return false;
+            }
+            this.lastHandled.put(entityId, now);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the throttle state of a player.
+     *
+     * @param entityId The entity id of the player.
+     */
+    public void forget(int entityId) {
+        synchronized (this.lastHandled) {
+            this.lastHandled.remove(entityId);
+        }
+    }
+}
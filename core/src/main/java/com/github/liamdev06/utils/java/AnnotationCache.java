@@ -0,0 +1,44 @@
+package com.github.liamdev06.utils.java;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
+/**
+ * Caches an annotation lookup per class, so the annotation is only reflected once for every class it is requested for.
+ *
+ * @param <A> The type of annotation to cache.
+ */
+public final class AnnotationCache<A extends Annotation> extends ClassValue<Optional<A>> {
+
+    private final @NonNull Class<A> annotationClass;
+
+    public AnnotationCache(@NonNull Class<A> annotationClass) {
+        this.annotationClass = annotationClass;
+    }
+
+    @Override
+    protected @NonNull Optional<A> computeValue(@NonNull Class<?> type) {
+        return Optional.ofNullable(type.getAnnotation(this.annotationClass));
+    }
+
+    /**
+     * Gets the cached annotation of a class.
+     *
+     * @param type The class to get the annotation of.
+     * @return The annotation present on the class, or {@code null} if it is not annotated.
+     */
+    public @Nullable A find(@NonNull Class<?> type) {
+        return this.get(type).orElse(null);
+    }
+
+    /**
+     * @param type The class to check.
+     * @return {@code true} if the class is annotated with the cached annotation, {@code false} otherwise.
+     */
+    public boolean isPresent(@NonNull Class<?> type) {
+        return this.get(type).isPresent();
+    }
+}
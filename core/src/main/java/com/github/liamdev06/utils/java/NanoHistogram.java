@@ -0,0 +1,115 @@
+package com.github.liamdev06.utils.java;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of nanosecond durations with power of two buckets.
+ * <p>
+ * Recording a value is a few atomic additions, which makes the histogram cheap enough to record on hot paths.
+ * Percentiles are approximated by the upper bound of the bucket they fall into, so they are at most twice the real value.
+ */
+public final class NanoHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final @NonNull AtomicLongArray buckets;
+    private final @NonNull LongAdder count;
+    private final @NonNull LongAdder total;
+    private final @NonNull LongAccumulator max;
+
+    public NanoHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds, negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        // Bucket i holds the values from 2^(i-1) up to 2^i - 1, and bucket 0 holds zero
+        this.buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+        this.count.increment();
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * @return How many durations have been recorded.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return Sum of all recorded durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.total.sum();
+    }
+
+    /**
+     * @return The longest recorded duration in nanoseconds, or {@code 0} if nothing is recorded.
+     */
+    public long getMaxNanos() {
+        return this.max.get();
+    }
+
+    /**
+     * @return The mean recorded duration in nanoseconds, or {@code 0} if nothing is recorded.
+     */
+    public long getMeanNanos() {
+        final long count = this.getCount();
+        return count == 0 ? 0 : this.getTotalNanos() / count;
+    }
+
+    /**
+     * Gets the approximate duration that the provided share of recorded durations are shorter than or equal to.
+     *
+     * @param percentile The percentile between {@code 0} and {@code 100}, like {@code 99} for the 99th percentile.
+     * @return The upper bound of the bucket of the percentile in nanoseconds, capped at the longest recorded duration.
+     */
+    public long getPercentileNanos(double percentile) {
+        long total = 0;
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min((1L << i) - 1, this.getMaxNanos());
+            }
+        }
+        return this.getMaxNanos();
+    }
+
+    /**
+     * Clears all recorded durations.
+     * <p>
+     * Durations recorded concurrently with the reset may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.reset();
+        this.total.reset();
+        this.max.reset();
+    }
+}
@@ -3,6 +3,7 @@ package com.github.liamdev06.utils.java;
 import lombok.experimental.UtilityClass;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,6 +58,17 @@ public class TimeFormatter {
         return minutesStr + ":" + secondsStr;
     }
 
+    /**
+     * Formats a duration in nanoseconds as milliseconds with two decimals, for example {@code 1.25ms}.
+     * This is mostly useful for logging measured timings.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The duration formatted in milliseconds.
+     */
+    public static @NonNull String formatNanosToMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
     /**
      * Converts a time period in milliseconds to a human-readable string representation of days, hours, minutes, and seconds.
      *
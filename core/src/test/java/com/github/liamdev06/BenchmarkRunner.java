@@ -0,0 +1,66 @@
+package com.github.liamdev06;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Minimal timing harness shared by the benchmarks run with {@code mvn -P benchmark test}.
+ * <p>
+ * A batch is run for a number of warm-up rounds before the measured rounds, and the fastest measured round is reported,
+ * which is the most stable figure on a shared machine. Results of the measured code should be passed to
+ * {@link #consume(Object)} so the JIT cannot remove the work.
+ */
+public final class BenchmarkRunner {
+
+    private static volatile Object sink;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Measures a batch of operations and prints the time per operation.
+     *
+     * @param name The name to report the result with.
+     * @param warmupRounds The amount of unmeasured rounds to run first.
+     * @param rounds The amount of measured rounds.
+     * @param operations The amount of operations one run of the batch performs.
+     * @param batch The batch to measure.
+     * @return Nanoseconds per operation of the fastest measured round.
+     */
+    public static double measure(@NonNull String name, int warmupRounds, int rounds, int operations, @NonNull Runnable batch) {
+        for (int i = 0; i < warmupRounds; i++) {
+            batch.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            final long start = System.nanoTime();
+            batch.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        final double perOperation = (double) best / operations;
+        System.out.printf(Locale.ROOT, "%-56s %14.1f ns/op%n", name, perOperation);
+        return perOperation;
+    }
+
+    /**
+     * Prints how the candidate compares to the baseline.
+     *
+     * @param baseline Nanoseconds per operation of the old path.
+     * @param candidate Nanoseconds per operation of the new path.
+     */
+    public static void compare(double baseline, double candidate) {
+        System.out.printf(Locale.ROOT, "%-56s %14.2fx%n", "speedup", baseline / candidate);
+    }
+
+    /**
+     * Keeps a result alive so the code producing it is not eliminated.
+     *
+     * @param value The result to consume.
+     */
+    public static void consume(Object value) {
+        sink = value;
+    }
+}
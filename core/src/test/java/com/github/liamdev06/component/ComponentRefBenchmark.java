@@ -0,0 +1,89 @@
+package com.github.liamdev06.component;
+
+import com.github.liamdev06.BenchmarkRunner;
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.registry.RegistryFactory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares looking up a component through a {@link ComponentRef} and {@link ComponentManager#getComponent(Class)}
+ * against the lookup they replace, a hash lookup in the synchronized component map followed by a cast.
+ * <p>
+ * The plugin lookup of {@link LPlugin#getComponent(Class)} went through {@code JavaPlugin#getPlugin}, which needs a
+ * plugin class loader, so it is not part of the old path measured here. The registry factory is mocked, as it is a
+ * single point initiator created by the registry factory benchmark.
+ */
+@Tag("benchmark")
+class ComponentRefBenchmark {
+
+    private static final int OPERATIONS = 10_000_000;
+    private static final int THREADS = 4;
+
+    @Test
+    void refAgainstMapLookup() {
+        final LPlugin plugin = mock(LPlugin.class);
+        when(plugin.getPluginIdentifier()).thenReturn("benchmark");
+        final ComponentManager componentManager = new ComponentManager(plugin, mock(RegistryFactory.class));
+        final BenchmarkComponent component = new BenchmarkComponent();
+        componentManager.registerComponent(component);
+
+        // The lookup of ComponentManager#getComponent before component references
+        final Map<Class<? extends Component>, Component> components = Collections.synchronizedMap(new LinkedHashMap<>());
+        components.put(BenchmarkComponent.class, component);
+        final Supplier<BenchmarkComponent> mapLookup = () -> BenchmarkComponent.class.cast(components.get(BenchmarkComponent.class));
+        final Supplier<BenchmarkComponent> managerLookup = () -> componentManager.getComponent(BenchmarkComponent.class);
+        final ComponentRef<BenchmarkComponent> ref = componentManager.getRef(BenchmarkComponent.class);
+
+        assertSame(component, mapLookup.get());
+        assertSame(component, managerLookup.get());
+        assertSame(component, ref.get());
+
+        System.out.println("Looking up a registered component on one thread");
+        final double map = BenchmarkRunner.measure("synchronized map lookup", 5, 10, OPERATIONS, () -> lookup(mapLookup));
+        BenchmarkRunner.measure("ComponentManager#getComponent", 5, 10, OPERATIONS, () -> lookup(managerLookup));
+        final double cached = BenchmarkRunner.measure("ComponentRef#get", 5, 10, OPERATIONS, () -> lookup(ref::get));
+        BenchmarkRunner.compare(map, cached);
+
+        System.out.println("Looking up a registered component on " + THREADS + " threads");
+        final double contendedMap = BenchmarkRunner.measure("synchronized map lookup", 2, 5, OPERATIONS, () -> contended(mapLookup));
+        BenchmarkRunner.measure("ComponentManager#getComponent", 2, 5, OPERATIONS, () -> contended(managerLookup));
+        final double contendedCached = BenchmarkRunner.measure("ComponentRef#get", 2, 5, OPERATIONS, () -> contended(ref::get));
+        BenchmarkRunner.compare(contendedMap, contendedCached);
+    }
+
+    private static void lookup(@NonNull Supplier<BenchmarkComponent> lookup) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            BenchmarkRunner.consume(lookup.get());
+        }
+    }
+
+    /**
+     * Splits the operations over the threads, so the time per operation shows the throughput of all threads together.
+     */
+    private static void contended(@NonNull Supplier<BenchmarkComponent> lookup) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[THREADS];
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures[thread] = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < OPERATIONS / THREADS; i++) {
+                    BenchmarkRunner.consume(lookup.get());
+                }
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    public static class BenchmarkComponent implements Component {
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.liamdev06.registry;
+
+import com.github.liamdev06.BenchmarkRunner;
+import com.github.liamdev06.LPlugin;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares creating instances through {@link RegistryFactory#factoryFor(Class)} against the reflective
+ * {@link Constructor#newInstance(Object...)} path it replaces.
+ * <p>
+ * The registry factory is a single point initiator, so this is the only test creating one.
+ */
+@Tag("benchmark")
+class RegistryFactoryBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    @Test
+    void factoryAgainstConstructorNewInstance() throws ReflectiveOperationException {
+        final LPlugin plugin = mock(LPlugin.class);
+        when(plugin.getPluginIdentifier()).thenReturn("benchmark");
+        final RegistryFactory registryFactory = new RegistryFactory(plugin);
+
+        final Constructor<Registered> constructor = Registered.class.getConstructor();
+        final Function<LPlugin, Registered> factory = registryFactory.factoryFor(Registered.class);
+        assertInstanceOf(Registered.class, factory.apply(plugin));
+
+        System.out.println("Instantiating a registered class");
+        final double reflective = BenchmarkRunner.measure("Constructor#newInstance", 5, 10, OPERATIONS, () -> {
+            try {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    BenchmarkRunner.consume(constructor.newInstance());
+                }
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        final double generated = BenchmarkRunner.measure("RegistryFactory#factoryFor", 5, 10, OPERATIONS, () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                BenchmarkRunner.consume(factory.apply(plugin));
+            }
+        });
+        BenchmarkRunner.compare(reflective, generated);
+    }
+
+    public static class Registered {
+
+        private final long created = System.nanoTime();
+
+        public Registered() {
+        }
+
+        public long getCreated() {
+            return this.created;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.liamdev06.registry.index;
+
+import com.github.liamdev06.component.Component;
+import com.github.liamdev06.configuration.reload.ConfigReloadable;
+import com.github.liamdev06.registry.AutoRegister;
+import com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fixture classes compiled with the {@link RegistryIndexProcessor} at test time, so the written index
+ * can be compared against a classpath scan of the very same classes.
+ */
+final class IndexedFixtures {
+
+    /**
+     * The package every fixture class is generated in.
+     */
+    static final @NonNull String PACKAGE = "fixture.registry";
+
+    private IndexedFixtures() {
+    }
+
+    /**
+     * Generates sources cycling through every indexed category, with every fifth class not indexed at all.
+     *
+     * @param count The amount of classes to generate.
+     * @return Map of simple class names to their source.
+     */
+    static @NonNull Map<String, String> generate(int count) {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String name = "Generated" + i;
+            final String body = switch (i % 5) {
+                case 0 -> "@" + AutoRegister.class.getName() + "(Object.class)\npublic class " + name + " { }";
+                case 1 -> "@" + AutoStartSchedulerHandler.class.getName() + "\npublic class " + name + " { }";
+                case 2 -> "public class " + name + " implements " + ConfigReloadable.class.getName() + " {\n"
+                        + "    public void loadConfig(com.github.liamdev06.LPlugin plugin) { }\n}";
+                case 3 -> "public class " + name + " implements " + Component.class.getName() + " { }";
+                default -> "public class " + name + " { }";
+            };
+            sources.put(name, source(body));
+        }
+        return sources;
+    }
+
+    /**
+     * @param body The declarations of the source file.
+     * @return Source file in the fixture package.
+     */
+    static @NonNull String source(@NonNull String body) {
+        return "package " + PACKAGE + ";\n\n" + body + "\n";
+    }
+
+    /**
+     * Compiles the provided sources with only the {@link RegistryIndexProcessor} running.
+     *
+     * @param directory The directory to write the sources and classes to.
+     * @param sources Map of simple class names to their source.
+     * @return The class output directory, containing the classes and the written index.
+     * @throws IOException If the sources could not be written.
+     */
+    static @NonNull Path compile(@NonNull Path directory, @NonNull Map<String, String> sources) throws IOException {
+        final Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        final Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+        final List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            final Path file = sourceDirectory.resolve(entry.getKey() + ".java");
+            Files.writeString(file, entry.getValue(), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+
+        // Surefire hides the test classpath behind a manifest-only jar, which it exposes through this property
+        final String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of("-d", classDirectory.toString(), "-classpath", classpath),
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(files)
+            );
+            task.setProcessors(List.of(new RegistryIndexProcessor()));
+            if (!task.call()) {
+                throw new IllegalStateException("Could not compile the fixture classes: " + diagnostics.getDiagnostics());
+            }
+        }
+        return classDirectory;
+    }
+
+    /**
+     * @param classDirectory The class output directory of {@link #compile(Path, Map)}.
+     * @return A new class loader for the compiled fixtures.
+     * @throws IOException If the directory could not be converted to a URL.
+     */
+    static @NonNull URLClassLoader classLoader(@NonNull Path classDirectory) throws IOException {
+        return new URLClassLoader(new URL[] { classDirectory.toUri().toURL() }, IndexedFixtures.class.getClassLoader());
+    }
+
+    /**
+     * Scans the compiled fixtures the way {@link com.github.liamdev06.registry.RegistryFactory} does without an index.
+     *
+     * @param classDirectory The class output directory of {@link #compile(Path, Map)}.
+     * @param classLoader The class loader of the fixtures.
+     * @return The finished scan.
+     * @throws IOException If the directory could not be converted to a URL.
+     */
+    static @NonNull Reflections scan(@NonNull Path classDirectory, @NonNull ClassLoader classLoader) throws IOException {
+        return new Reflections(new ConfigurationBuilder()
+                .setUrls(classDirectory.toUri().toURL())
+                .addClassLoaders(classLoader)
+                .filterInputsBy(new FilterBuilder().includePackage(PACKAGE)));
+    }
+
+    /**
+     * @param classes The classes to get the names of.
+     * @return Sorted binary names of the classes.
+     */
+    static @NonNull Set<String> names(@NonNull Set<? extends Class<?>> classes) {
+        final Set<String> names = new TreeSet<>();
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+}
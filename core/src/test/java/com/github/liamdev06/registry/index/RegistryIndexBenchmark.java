@@ -0,0 +1,66 @@
+package com.github.liamdev06.registry.index;
+
+import com.github.liamdev06.BenchmarkRunner;
+import com.github.liamdev06.component.Component;
+import com.github.liamdev06.configuration.reload.ConfigReloadable;
+import com.github.liamdev06.registry.AutoRegister;
+import com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.liamdev06.registry.index.IndexedFixtures.PACKAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Compares the startup lookup of a plugin with about 2,000 classes through the {@link RegistryIndex}
+ * against the {@link Reflections} classpath scan it replaces.
+ * <p>
+ * Every round uses a fresh class loader, so both paths pay for loading the classes like they do on startup.
+ */
+@Tag("benchmark")
+class RegistryIndexBenchmark {
+
+    private static final int CLASSES = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexAgainstClasspathScan() throws IOException {
+        final Path classDirectory = IndexedFixtures.compile(this.directory, IndexedFixtures.generate(CLASSES));
+        final int indexed = CLASSES * 4 / 5;
+
+        System.out.println("Startup lookup of " + CLASSES + " classes");
+        final double scan = BenchmarkRunner.measure("reflections scan", 2, 5, 1, () -> {
+            try (URLClassLoader classLoader = IndexedFixtures.classLoader(classDirectory)) {
+                final Reflections reflections = IndexedFixtures.scan(classDirectory, classLoader);
+                final int found = reflections.getTypesAnnotatedWith(AutoRegister.class).size()
+                        + reflections.getTypesAnnotatedWith(AutoStartSchedulerHandler.class).size()
+                        + reflections.getSubTypesOf(ConfigReloadable.class).size()
+                        + reflections.getSubTypesOf(Component.class).size();
+                assertEquals(indexed, found);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        final double index = BenchmarkRunner.measure("registry index", 2, 5, 1, () -> {
+            try (URLClassLoader classLoader = IndexedFixtures.classLoader(classDirectory)) {
+                final RegistryIndex loaded = RegistryIndex.load(classLoader, List.of(PACKAGE));
+                assertNotNull(loaded);
+                assertEquals(indexed, loaded.size());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        BenchmarkRunner.compare(scan, index);
+    }
+}
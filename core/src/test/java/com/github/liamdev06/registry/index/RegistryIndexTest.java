@@ -0,0 +1,95 @@
+package com.github.liamdev06.registry.index;
+
+import com.github.liamdev06.component.Component;
+import com.github.liamdev06.configuration.reload.ConfigReloadable;
+import com.github.liamdev06.registry.AutoRegister;
+import com.github.liamdev06.scheduler.annotation.AutoStartSchedulerHandler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.liamdev06.registry.index.IndexedFixtures.PACKAGE;
+import static com.github.liamdev06.registry.index.IndexedFixtures.names;
+import static com.github.liamdev06.registry.index.IndexedFixtures.source;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the index written by {@link RegistryIndexProcessor} holds exactly the classes a
+ * {@link Reflections} scan of the same classes finds.
+ */
+class RegistryIndexTest {
+
+    @TempDir
+    static Path directory;
+
+    private static URLClassLoader classLoader;
+    private static RegistryIndex index;
+    private static Reflections reflections;
+
+    @BeforeAll
+    static void compileFixtures() throws IOException {
+        final Map<String, String> sources = IndexedFixtures.generate(50);
+        sources.put("AbstractComponent", source("public abstract class AbstractComponent implements " + Component.class.getName() + " { }"));
+        sources.put("ExtendedComponent", source("public class ExtendedComponent extends AbstractComponent { }"));
+        sources.put("Outer", source("public class Outer {\n    public static class Inner implements " + Component.class.getName() + " { }\n}"));
+        sources.put("Both", source("@" + AutoRegister.class.getName() + "(Object.class)\npublic class Both implements " + Component.class.getName() + " { }"));
+
+        final Path classDirectory = IndexedFixtures.compile(directory, sources);
+        classLoader = IndexedFixtures.classLoader(classDirectory);
+        index = RegistryIndex.load(classLoader, List.of(PACKAGE));
+        reflections = IndexedFixtures.scan(classDirectory, classLoader);
+    }
+
+    @AfterAll
+    static void closeClassLoader() throws IOException {
+        classLoader.close();
+    }
+
+    @Test
+    void indexIsWritten() {
+        assertNotNull(index);
+        assertTrue(index.size() > 0);
+    }
+
+    @Test
+    void autoRegisterMatchesScan() {
+        assertEquals(names(reflections.getTypesAnnotatedWith(AutoRegister.class)), names(index.getClasses(RegistryIndex.AUTO_REGISTER)));
+    }
+
+    @Test
+    void autoStartSchedulerHandlerMatchesScan() {
+        assertEquals(names(reflections.getTypesAnnotatedWith(AutoStartSchedulerHandler.class)), names(index.getClasses(RegistryIndex.AUTO_START_SCHEDULER_HANDLER)));
+    }
+
+    @Test
+    void configReloadableMatchesScan() {
+        assertEquals(names(reflections.getSubTypesOf(ConfigReloadable.class)), names(index.getClasses(RegistryIndex.CONFIG_RELOADABLE)));
+    }
+
+    @Test
+    void componentMatchesScan() {
+        final Set<String> scanned = names(reflections.getSubTypesOf(Component.class));
+        assertEquals(scanned, names(index.getClasses(RegistryIndex.COMPONENT)));
+        assertTrue(scanned.contains(PACKAGE + ".ExtendedComponent"));
+        assertTrue(scanned.contains(PACKAGE + ".Outer$Inner"));
+    }
+
+    @Test
+    void classesOutsideScannedPackagesAreSkipped() throws IOException {
+        final RegistryIndex other = RegistryIndex.load(classLoader, List.of("fixture.other"));
+        assertNotNull(other);
+        assertEquals(0, other.size());
+        assertTrue(other.getClasses(RegistryIndex.COMPONENT).isEmpty());
+    }
+}
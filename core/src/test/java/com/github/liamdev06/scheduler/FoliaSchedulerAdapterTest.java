@@ -0,0 +1,228 @@
+package com.github.liamdev06.scheduler;
+
+import com.github.liamdev06.LPlugin;
+import com.github.liamdev06.scheduler.interfaces.SchedulerTask;
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of {@link FoliaSchedulerAdapter} against stubbed region schedulers.
+ * <p>
+ * The adapter is a single point initiator, so one adapter is shared by every test and the stubs are cleared in between.
+ */
+class FoliaSchedulerAdapterTest {
+
+    private static LPlugin plugin;
+    private static GlobalRegionScheduler globalScheduler;
+    private static RegionScheduler regionScheduler;
+    private static ScheduledTask scheduledTask;
+    private static FoliaSchedulerAdapter adapter;
+
+    private final @NonNull Location location = new Location(null, 0, 64, 0);
+    private final @NonNull AtomicInteger runs = new AtomicInteger();
+    private final @NonNull Runnable task = this.runs::incrementAndGet;
+
+    @BeforeAll
+    static void createAdapter() {
+        plugin = mock(LPlugin.class);
+        globalScheduler = mock(GlobalRegionScheduler.class);
+        regionScheduler = mock(RegionScheduler.class);
+        scheduledTask = mock(ScheduledTask.class);
+
+        final Server server = mock(Server.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getPluginIdentifier()).thenReturn("test");
+        when(server.getGlobalRegionScheduler()).thenReturn(globalScheduler);
+        when(server.getRegionScheduler()).thenReturn(regionScheduler);
+        adapter = new FoliaSchedulerAdapter(plugin, SchedulerSettings.defaults());
+    }
+
+    @AfterAll
+    static void shutdownAdapter() {
+        adapter.shutdown();
+    }
+
+    @BeforeEach
+    void clearStubs() {
+        clearInvocations(globalScheduler, regionScheduler, scheduledTask);
+        when(globalScheduler.runDelayed(any(), any(), anyLong())).thenReturn(scheduledTask);
+        when(globalScheduler.runAtFixedRate(any(), any(), anyLong(), anyLong())).thenReturn(scheduledTask);
+        when(regionScheduler.runDelayed(any(), any(Location.class), any(), anyLong())).thenReturn(scheduledTask);
+        when(regionScheduler.runAtFixedRate(any(), any(Location.class), any(), anyLong(), anyLong())).thenReturn(scheduledTask);
+    }
+
+    @Test
+    void syncLaterRunsOnGlobalRegion() {
+        final SchedulerTask scheduled = adapter.syncLater(this.task, 1, TimeUnit.SECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(globalScheduler).runDelayed(eq(plugin), captor.capture(), eq(20L));
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(1, this.runs.get());
+        assertEquals(1, scheduled.getRunCount());
+    }
+
+    @Test
+    void syncRepeatingRunsOnGlobalRegion() {
+        final SchedulerTask scheduled = adapter.syncRepeating(this.task, 1, 2, TimeUnit.SECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(globalScheduler).runAtFixedRate(eq(plugin), captor.capture(), eq(20L), eq(40L));
+        captor.getValue().accept(scheduledTask);
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(2, this.runs.get());
+        assertEquals(2, scheduled.getRunCount());
+    }
+
+    @Test
+    void cancelCancelsScheduledTask() {
+        final SchedulerTask scheduled = adapter.syncLater(this.task, 1, TimeUnit.SECONDS);
+        scheduled.cancel();
+
+        assertTrue(scheduled.isCancelled());
+        verify(scheduledTask).cancel();
+    }
+
+    @Test
+    void syncLaterRunsOnLocationRegion() {
+        final SchedulerTask scheduled = adapter.syncLater(this.location, this.task, 500, TimeUnit.MILLISECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(regionScheduler).runDelayed(eq(plugin), eq(this.location), captor.capture(), eq(10L));
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(1, this.runs.get());
+        assertEquals(1, scheduled.getRunCount());
+    }
+
+    @Test
+    void syncRepeatingRunsOnLocationRegion() {
+        final SchedulerTask scheduled = adapter.syncRepeating(this.location, this.task, 0, 1, TimeUnit.SECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(regionScheduler).runAtFixedRate(eq(plugin), eq(this.location), captor.capture(), eq(1L), eq(20L));
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(1, scheduled.getRunCount());
+    }
+
+    @Test
+    void syncLaterRunsOnEntityScheduler() {
+        final EntityScheduler entityScheduler = mock(EntityScheduler.class);
+        when(entityScheduler.runDelayed(any(), any(), any(), anyLong())).thenReturn(scheduledTask);
+        final Entity entity = mockEntity(entityScheduler);
+
+        final SchedulerTask scheduled = adapter.syncLater(entity, this.task, 3, TimeUnit.SECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(entityScheduler).runDelayed(eq(plugin), captor.capture(), any(), eq(60L));
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(1, this.runs.get());
+        assertFalse(scheduled.isCancelled());
+    }
+
+    @Test
+    void syncRepeatingRunsOnEntityScheduler() {
+        final EntityScheduler entityScheduler = mock(EntityScheduler.class);
+        when(entityScheduler.runAtFixedRate(any(), any(), any(), anyLong(), anyLong())).thenReturn(scheduledTask);
+        final Entity entity = mockEntity(entityScheduler);
+
+        final SchedulerTask scheduled = adapter.syncRepeating(entity, this.task, 1, 1, TimeUnit.SECONDS);
+
+        final ArgumentCaptor<Consumer<ScheduledTask>> captor = consumerCaptor();
+        verify(entityScheduler).runAtFixedRate(eq(plugin), captor.capture(), any(), eq(20L), eq(20L));
+        captor.getValue().accept(scheduledTask);
+
+        assertEquals(1, scheduled.getRunCount());
+    }
+
+    @Test
+    void removedEntityCancelsTask() {
+        final EntityScheduler entityScheduler = mock(EntityScheduler.class);
+        when(entityScheduler.runDelayed(any(), any(), any(), anyLong())).thenReturn(null);
+        when(entityScheduler.runAtFixedRate(any(), any(), any(), anyLong(), anyLong())).thenReturn(null);
+        final Entity entity = mockEntity(entityScheduler);
+
+        final SchedulerTask later = adapter.syncLater(entity, this.task, 1, TimeUnit.SECONDS);
+        final SchedulerTask repeating = adapter.syncRepeating(entity, this.task, 1, 1, TimeUnit.SECONDS);
+
+        assertTrue(later.isCancelled());
+        assertTrue(repeating.isCancelled());
+        assertEquals(0, later.getRunCount());
+        assertEquals(0, this.runs.get());
+    }
+
+    @Test
+    void retiredEntityTaskLeavesGroup() {
+        final EntityScheduler entityScheduler = mock(EntityScheduler.class);
+        when(entityScheduler.runAtFixedRate(any(), any(), any(), anyLong(), anyLong())).thenReturn(scheduledTask);
+        final Entity entity = mockEntity(entityScheduler);
+        final TaskGroup group = adapter.group("arena");
+
+        final SchedulerTask scheduled = group.syncRepeating(entity, this.task, 1, 1, TimeUnit.SECONDS);
+        group.syncRepeating(this.location, this.task, 1, 1, TimeUnit.SECONDS);
+        assertEquals(2, group.getLiveCount());
+
+        final ArgumentCaptor<Runnable> retired = ArgumentCaptor.forClass(Runnable.class);
+        verify(entityScheduler).runAtFixedRate(eq(plugin), any(), retired.capture(), eq(20L), eq(20L));
+        retired.getValue().run();
+
+        assertTrue(scheduled.isCancelled());
+        assertEquals(1, group.getLiveCount());
+        assertEquals(1, group.cancelAll());
+    }
+
+    @Test
+    void delaysAreClampedToOneTick() {
+        adapter.syncLater(this.task, 0, TimeUnit.MILLISECONDS);
+        adapter.syncLater(this.task, 49, TimeUnit.MILLISECONDS);
+        verify(globalScheduler, times(2)).runDelayed(eq(plugin), any(), eq(1L));
+
+        adapter.syncRepeating(this.task, 0, 0, TimeUnit.SECONDS);
+        verify(globalScheduler).runAtFixedRate(eq(plugin), any(), eq(1L), eq(1L));
+
+        adapter.syncLater(this.task, 120, TimeUnit.MILLISECONDS);
+        verify(globalScheduler).runDelayed(eq(plugin), any(), eq(2L));
+    }
+
+    private static @NonNull Entity mockEntity(@NonNull EntityScheduler entityScheduler) {
+        final Entity entity = mock(Entity.class);
+        when(entity.getScheduler()).thenReturn(entityScheduler);
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NonNull ArgumentCaptor<Consumer<ScheduledTask>> consumerCaptor() {
+        return ArgumentCaptor.forClass(Consumer.class);
+    }
+}
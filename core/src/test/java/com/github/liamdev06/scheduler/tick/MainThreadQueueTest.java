@@ -0,0 +1,52 @@
+package com.github.liamdev06.scheduler.tick;
+
+import com.github.liamdev06.utils.java.LoggerUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the {@link MainThreadQueue} never drops a task around its shutdown.
+ */
+class MainThreadQueueTest {
+
+    private final @NonNull MainThreadQueue queue = new MainThreadQueue(LoggerUtil.createLogger("MainThreadQueueTest"), 1, TimeUnit.MILLISECONDS);
+    private final @NonNull AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void shutdownOnMainThreadRunsQueuedTasks() {
+        this.queue.execute(this.runs::incrementAndGet);
+        this.queue.execute(this.runs::incrementAndGet);
+
+        this.queue.shutdown(() -> true);
+
+        assertTrue(this.queue.isShutdown());
+        assertEquals(2, this.runs.get());
+        assertEquals(0, this.queue.getDepth());
+    }
+
+    @Test
+    void tasksAfterShutdownRunDirectlyOnMainThread() {
+        this.queue.shutdown(() -> true);
+
+        this.queue.execute(this.runs::incrementAndGet);
+
+        assertEquals(1, this.runs.get());
+        assertEquals(0, this.queue.getDepth());
+    }
+
+    @Test
+    void tasksAfterShutdownAreRejectedOffMainThread() {
+        this.queue.shutdown(() -> false);
+
+        assertThrows(RejectedExecutionException.class, () -> this.queue.execute(this.runs::incrementAndGet));
+        assertEquals(0, this.runs.get());
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.liamdev06.scheduler.wheel;
+
+import com.github.liamdev06.BenchmarkRunner;
+import com.github.liamdev06.scheduler.wheel.HashedTimingWheel.WheelTimeout;
+import com.github.liamdev06.utils.java.LoggerUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares 100,000 concurrent timers on the {@link HashedTimingWheel} against the {@link ScheduledThreadPoolExecutor}
+ * configured like the one of {@link com.github.liamdev06.scheduler.AbstractSchedulerAdapter}.
+ * <p>
+ * Both engines are measured for timers that are cancelled before they fire, like timeouts, and for timers that all fire,
+ * where the cost of scheduling and how late the timers fire are reported.
+ */
+@Tag("benchmark")
+class HashedTimingWheelBenchmark {
+
+    private static final int TIMERS = 100_000;
+    private static final long MAX_DELAY_MILLIS = 200;
+
+    private HashedTimingWheel wheel;
+    private ScheduledThreadPoolExecutor executor;
+
+    @BeforeEach
+    void createEngines() {
+        this.wheel = new HashedTimingWheel("benchmark-timing-wheel", 10, TimeUnit.MILLISECONDS, 512, LoggerUtil.createLogger("HashedTimingWheelBenchmark"));
+        this.executor = new ScheduledThreadPoolExecutor(1);
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @AfterEach
+    void stopEngines() throws InterruptedException {
+        this.wheel.stop(1, TimeUnit.SECONDS);
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void scheduleAndCancel() {
+        final WheelTimeout[] timeouts = new WheelTimeout[TIMERS];
+        final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[TIMERS];
+        final Runnable task = () -> { };
+
+        System.out.println("Scheduling and cancelling " + TIMERS + " timers");
+        final double executorNanos = BenchmarkRunner.measure("ScheduledThreadPoolExecutor", 3, 10, TIMERS, () -> {
+            for (int i = 0; i < TIMERS; i++) {
+                futures[i] = this.executor.schedule(task, delayOf(i), TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < TIMERS; i++) {
+                futures[i].cancel(false);
+            }
+        });
+        final double wheelNanos = BenchmarkRunner.measure("HashedTimingWheel", 3, 10, TIMERS, () -> {
+            for (int i = 0; i < TIMERS; i++) {
+                timeouts[i] = this.wheel.schedule(task, delayOf(i), TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < TIMERS; i++) {
+                timeouts[i].cancel();
+            }
+        });
+        BenchmarkRunner.compare(executorNanos, wheelNanos);
+        assertEquals(0, this.executor.getQueue().size());
+    }
+
+    @Test
+    void scheduleAndFire() throws InterruptedException {
+        System.out.println("Scheduling " + TIMERS + " timers and waiting for all of them to fire");
+        measureFiring("ScheduledThreadPoolExecutor", (task, delay) -> this.executor.schedule(task, delay, TimeUnit.MILLISECONDS));
+        measureFiring("HashedTimingWheel", (task, delay) -> this.wheel.schedule(task, delay, TimeUnit.MILLISECONDS));
+    }
+
+    private static void measureFiring(@NonNull String name, @NonNull Engine engine) throws InterruptedException {
+        long bestScheduleNanos = Long.MAX_VALUE;
+        long bestLatenessNanos = Long.MAX_VALUE;
+
+        // The first round warms up
+        for (int round = 0; round < 4; round++) {
+            final CountDownLatch latch = new CountDownLatch(TIMERS);
+            final LongAdder lateness = new LongAdder();
+
+            final long timeAtStart = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                final long delay = delayOf(i);
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                engine.schedule(() -> {
+                    lateness.add(System.nanoTime() - deadline);
+                    latch.countDown();
+                }, delay);
+            }
+            final long scheduleNanos = System.nanoTime() - timeAtStart;
+            assertTrue(latch.await(MAX_DELAY_MILLIS * 50, TimeUnit.MILLISECONDS));
+
+            if (round > 0) {
+                bestScheduleNanos = Math.min(bestScheduleNanos, scheduleNanos);
+                bestLatenessNanos = Math.min(bestLatenessNanos, lateness.sum() / TIMERS);
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%-56s %14.1f ns/op schedule, %.2fms mean lateness%n",
+                name, (double) bestScheduleNanos / TIMERS, bestLatenessNanos / 1_000_000.0);
+    }
+
+    /**
+     * Spreads the timers evenly over the delays, the same for both engines.
+     */
+    private static long delayOf(int timer) {
+        return timer % MAX_DELAY_MILLIS;
+    }
+
+    @FunctionalInterface
+    private interface Engine {
+        void schedule(@NonNull Runnable task, long delayMillis);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.liamdev06.utils.bukkit;
+
+import com.github.liamdev06.BenchmarkRunner;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares dispatching an event through an executor of {@link EventExecutorFactory} against the reflective executor
+ * Bukkit creates for every handler method in {@code JavaPluginLoader#createRegisteredListeners}.
+ */
+@Tag("benchmark")
+class EventDispatchBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    @Test
+    void generatedAgainstReflectiveExecutor() throws ReflectiveOperationException, EventException {
+        final Method method = CountingListener.class.getMethod("onEvent", BenchmarkEvent.class);
+        final CountingListener listener = new CountingListener();
+        final BenchmarkEvent event = new BenchmarkEvent();
+
+        // Equivalent of the executor created by Bukkit, checking the event type and calling the method reflectively
+        final EventExecutor reflective = (target, dispatched) -> {
+            try {
+                if (BenchmarkEvent.class.isAssignableFrom(dispatched.getClass())) {
+                    method.invoke(target, dispatched);
+                }
+            } catch (InvocationTargetException exception) {
+                throw new EventException(exception.getCause());
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            }
+        };
+        final EventExecutor generated = EventExecutorFactory.create(method, BenchmarkEvent.class);
+
+        generated.execute(listener, event);
+        assertEquals(1, listener.calls);
+
+        System.out.println("Dispatching one event to one handler");
+        final double baseline = BenchmarkRunner.measure("reflective executor", 5, 10, OPERATIONS, () -> dispatch(reflective, listener, event));
+        final double candidate = BenchmarkRunner.measure("EventExecutorFactory executor", 5, 10, OPERATIONS, () -> dispatch(generated, listener, event));
+        BenchmarkRunner.compare(baseline, candidate);
+        BenchmarkRunner.consume(listener.calls);
+    }
+
+    private static void dispatch(@NonNull EventExecutor executor, @NonNull Listener listener, @NonNull Event event) {
+        try {
+            for (int i = 0; i < OPERATIONS; i++) {
+                executor.execute(listener, event);
+            }
+        } catch (EventException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public static class CountingListener implements Listener {
+
+        private long calls;
+
+        @EventHandler
+        public void onEvent(@NonNull BenchmarkEvent event) {
+            this.calls++;
+        }
+    }
+
+    public static class BenchmarkEvent extends Event {
+
+        private static final HandlerList HANDLERS = new HandlerList();
+
+        @Override
+        public @NonNull HandlerList getHandlers() {
+            return HANDLERS;
+        }
+
+        public static @NonNull HandlerList getHandlerList() {
+            return HANDLERS;
+        }
+    }
+}